@@ -0,0 +1,63 @@
+// k6 load test for the wardrobe and influencer endpoints at 1000 concurrent clients.
+//
+// Compare platform and virtual threads by starting the backend once per mode and running:
+//   VIRTUAL_THREADS_ENABLED=false ./gradlew bootRun
+//   k6 run --summary-export=build/k6-platform.json load-tests/wardrobe-latency.js
+//   VIRTUAL_THREADS_ENABLED=true ./gradlew bootRun
+//   k6 run --summary-export=build/k6-virtual.json load-tests/wardrobe-latency.js
+// and diff the p(99) values of the wardrobe_latency and influencers_latency trends.
+import http from 'k6/http';
+import { check } from 'k6';
+import { Trend } from 'k6/metrics';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const CLIENTS = Number(__ENV.CLIENTS || 1000);
+
+const wardrobeLatency = new Trend('wardrobe_latency', true);
+const influencersLatency = new Trend('influencers_latency', true);
+
+export const options = {
+  summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+  scenarios: {
+    wardrobe: {
+      executor: 'constant-vus',
+      exec: 'wardrobe',
+      vus: CLIENTS / 2,
+      duration: __ENV.DURATION || '2m',
+    },
+    influencers: {
+      executor: 'constant-vus',
+      exec: 'influencers',
+      vus: CLIENTS / 2,
+      duration: __ENV.DURATION || '2m',
+    },
+  },
+  thresholds: {
+    http_req_failed: ['rate<0.01'],
+  },
+};
+
+// The seeded influencers own the only populated wardrobes, so their ids drive the wardrobe scenario.
+export function setup() {
+  const response = http.get(`${BASE_URL}/api/wardrobe-share/get-shared-influencers-wardrobes`);
+  const userIds = response.json('savedWardrobeItems').map((item) => item.user.id);
+  if (userIds.length === 0) {
+    throw new Error('No influencers found; start the backend with the DataLoader enabled');
+  }
+  return { userIds };
+}
+
+export function wardrobe(data) {
+  const userId = data.userIds[Math.floor(Math.random() * data.userIds.length)];
+  const response = http.get(`${BASE_URL}/api/products/${userId}`, { tags: { endpoint: 'wardrobe' } });
+  check(response, { 'wardrobe 200': (r) => r.status === 200 });
+  wardrobeLatency.add(response.timings.duration);
+}
+
+export function influencers() {
+  const response = http.get(`${BASE_URL}/api/wardrobe-share/get-shared-influencers-wardrobes`, {
+    tags: { endpoint: 'influencers' },
+  });
+  check(response, { 'influencers 200': (r) => r.status === 200 });
+  influencersLatency.add(response.timings.duration);
+}
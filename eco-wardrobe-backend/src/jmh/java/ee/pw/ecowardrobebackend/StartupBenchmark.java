@@ -0,0 +1,99 @@
+package ee.pw.ecowardrobebackend;
+
+import ee.pw.ecowardrobebackend.entity.product.Product;
+import ee.pw.ecowardrobebackend.fixtures.PassportFixtures;
+import ee.pw.ecowardrobebackend.service.PassportCatalogService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time from launch until the application reports ready, with the prod profile on a durable
+ * database that already holds the catalog. Flyway only checks the migration history and the search
+ * index is reused, so readiness should not grow with the number of stored passports.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class StartupBenchmark {
+    private static final int INSERT_CHUNK_SIZE = 1000;
+
+    @Param({"100000"})
+    private int products;
+
+    private Path dataDirectory;
+    private String[] args;
+    private ConfigurableApplicationContext context;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        dataDirectory = Files.createTempDirectory("eco-wardrobe-startup");
+        args = new String[]{
+                "--spring.profiles.active=prod",
+                "--spring.datasource.url=jdbc:h2:file:" + dataDirectory.resolve("eco-wardrobe") + ";DB_CLOSE_ON_EXIT=FALSE",
+                "--spring.jpa.properties.hibernate.search.backend.directory.root=" + dataDirectory.resolve("search-index"),
+                "--app.images.directory=" + dataDirectory.resolve("images"),
+                "--app.seed.download-images=false",
+                "--server.port=0"
+        };
+
+        // The first start migrates the empty database and seeds it; the catalog is then stored and
+        // indexed through the application, as it would be in production.
+        try (ConfigurableApplicationContext seedContext = SpringApplication.run(EcoWardrobeBackendApplication.class, args)) {
+            final PassportCatalogService passportCatalogService = seedContext.getBean(PassportCatalogService.class);
+            for (int start = 0; start < products; start += INSERT_CHUNK_SIZE) {
+                final List<Integer> chunk = new ArrayList<>(INSERT_CHUNK_SIZE);
+                for (int i = start; i < Math.min(start + INSERT_CHUNK_SIZE, products); i++) {
+                    chunk.add(i);
+                }
+                passportCatalogService.insertAll(chunk, i -> {
+                    final Product product = PassportFixtures.product(i);
+                    product.setId(null);
+                    return product;
+                });
+            }
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void stop() {
+        if (context != null) {
+            context.close();
+            context = null;
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        FileSystemUtils.deleteRecursively(dataDirectory);
+    }
+
+    @Benchmark
+    public ConfigurableApplicationContext startUntilReady() {
+        context = SpringApplication.run(EcoWardrobeBackendApplication.class, args);
+        return context;
+    }
+}
@@ -0,0 +1,27 @@
+package ee.pw.ecowardrobebackend.config;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * The original {@code ||}-joined converter, kept only as the baseline for {@link ListStringConverterBenchmark}.
+ */
+class LegacyListStringConverter {
+    private static final String SEP = "||";
+
+    public String convertToDatabaseColumn(List<String> attribute) {
+        if (attribute == null || attribute.isEmpty()) return null;
+        return attribute.stream()
+                .map(s -> s == null ? "" : s)
+                .collect(Collectors.joining(SEP));
+    }
+
+    public List<String> convertToEntityAttribute(String dbData) {
+        if (dbData == null || dbData.isEmpty()) return Collections.emptyList();
+        return Arrays.stream(dbData.split(java.util.regex.Pattern.quote(SEP)))
+                .map(s -> s.isEmpty() ? null : s)
+                .collect(Collectors.toList());
+    }
+}
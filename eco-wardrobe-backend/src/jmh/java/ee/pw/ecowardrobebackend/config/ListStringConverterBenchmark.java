@@ -0,0 +1,72 @@
+package ee.pw.ecowardrobebackend.config;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the current converter with the original {@code ||}/regex implementation on the list
+ * shapes that appear in seeded passports: certifications, hazardous substances and production
+ * processes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ListStringConverterBenchmark {
+    @Param({"certifications", "hazardousSubstances", "processes"})
+    private String shape;
+
+    private final ListStringConverter converter = new ListStringConverter();
+    private final LegacyListStringConverter legacyConverter = new LegacyListStringConverter();
+
+    private List<String> values;
+    private String column;
+    private String legacyColumn;
+
+    @Setup
+    public void setUp() {
+        values = switch (shape) {
+            case "certifications" -> List.of("GOTS", "OEKO-TEX");
+            case "hazardousSubstances" -> List.of("Nie wykryto");
+            case "processes" -> List.of("Tkanie", "Barwienie", "Montaż", "Kontrola Jakości");
+            default -> throw new IllegalArgumentException("Unknown shape " + shape);
+        };
+        column = converter.convertToDatabaseColumn(values);
+        legacyColumn = legacyConverter.convertToDatabaseColumn(values);
+    }
+
+    @Benchmark
+    public void read(Blackhole blackhole) {
+        blackhole.consume(converter.convertToEntityAttribute(column));
+    }
+
+    @Benchmark
+    public void readLegacy(Blackhole blackhole) {
+        blackhole.consume(legacyConverter.convertToEntityAttribute(legacyColumn));
+    }
+
+    @Benchmark
+    public void write(Blackhole blackhole) {
+        blackhole.consume(converter.convertToDatabaseColumn(values));
+    }
+
+    @Benchmark
+    public void writeLegacy(Blackhole blackhole) {
+        blackhole.consume(legacyConverter.convertToDatabaseColumn(values));
+    }
+}
@@ -0,0 +1,112 @@
+package ee.pw.ecowardrobebackend.dto.product;
+
+import ee.pw.ecowardrobebackend.dto.share.SavedWardrobeResponseDTO;
+import ee.pw.ecowardrobebackend.dto.user.UserDTO;
+import ee.pw.ecowardrobebackend.entity.product.Product;
+import ee.pw.ecowardrobebackend.entity.user.User;
+import ee.pw.ecowardrobebackend.fixtures.PassportFixtures;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.dataformat.cbor.CBORMapper;
+import tools.jackson.dataformat.smile.SmileMapper;
+
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Serialization cost and wire size of the wardrobe payloads in each negotiated format. The sizes
+ * are printed once per trial; {@code passportUpload} is a create request with a 200 KB photo, the
+ * payload where JSON pays for base64.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PayloadFormatBenchmark {
+    private static final int IMAGE_SIZE = 200 * 1024;
+
+    @Param({"json", "cbor", "smile"})
+    private String format;
+
+    @Param({"wardrobe", "savedWardrobes", "passportUpload"})
+    private String payload;
+
+    @Param({"50"})
+    private int wardrobeSize;
+
+    private ObjectMapper mapper;
+    private Object value;
+
+    @Setup
+    public void setUp() {
+        mapper = switch (format) {
+            case "json" -> JsonMapper.builder().build();
+            case "cbor" -> CBORMapper.builder().build();
+            case "smile" -> SmileMapper.builder().build();
+            default -> throw new IllegalArgumentException("Unknown format " + format);
+        };
+        value = switch (payload) {
+            case "wardrobe" -> new WardrobeItemsDTO(PassportFixtures.wardrobe(wardrobeSize));
+            case "savedWardrobes" -> savedWardrobes();
+            case "passportUpload" -> passportUpload();
+            default -> throw new IllegalArgumentException("Unknown payload " + payload);
+        };
+        System.out.printf("%n%s %s: %d bytes%n", format, payload, mapper.writeValueAsBytes(value).length);
+    }
+
+    @Benchmark
+    public byte[] serialize() {
+        return mapper.writeValueAsBytes(value);
+    }
+
+    private SavedWardrobeResponseDTO savedWardrobes() {
+        final Set<SavedWardrobeResponseDTO.SavedWardrobeItemDTO> items = PassportFixtures.influencers(5, wardrobeSize / 5)
+                .stream()
+                .map(owner -> new SavedWardrobeResponseDTO.SavedWardrobeItemDTO(toUserDTO(owner), owner.getProducts()))
+                .collect(Collectors.toSet());
+        return new SavedWardrobeResponseDTO(items);
+    }
+
+    private static CreateProductDTO passportUpload() {
+        final Product product = PassportFixtures.product(0);
+        final byte[] image = new byte[IMAGE_SIZE];
+        // Photos are already compressed, so random bytes stand in for one.
+        new Random(42).nextBytes(image);
+        return CreateProductDTO.builder()
+                .productInformation(product.getProductInformation())
+                .materialCompositions(product.getMaterialCompositions())
+                .productEnvironmentImpact(product.getProductEnvironmentImpact())
+                .manufacturing(product.getManufacturing())
+                .durabilityAndCare(product.getDurabilityAndCare())
+                .endOfLife(product.getEndOfLife())
+                .supplyChainTraceability(product.getSupplyChainTraceability())
+                .metadata(product.getMetadata())
+                .image(image)
+                .build();
+    }
+
+    private static UserDTO toUserDTO(User owner) {
+        return UserDTO.builder()
+                .id(owner.getId())
+                .name(owner.getName())
+                .profilePictureHash(owner.getProfilePictureHash())
+                .isInfluencer(owner.isInfluencer())
+                .preference(owner.getPreference())
+                .build();
+    }
+}
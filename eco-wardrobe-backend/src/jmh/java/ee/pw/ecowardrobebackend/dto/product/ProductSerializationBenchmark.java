@@ -0,0 +1,53 @@
+package ee.pw.ecowardrobebackend.dto.product;
+
+import ee.pw.ecowardrobebackend.entity.product.Product;
+import ee.pw.ecowardrobebackend.fixtures.PassportFixtures;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON serialization cost of a single passport and of a whole {@link WardrobeItemsDTO}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProductSerializationBenchmark {
+    @Param({"1", "10", "50"})
+    private int wardrobeSize;
+
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+
+    private Product product;
+    private WardrobeItemsDTO wardrobe;
+
+    @Setup
+    public void setUp() {
+        product = PassportFixtures.product(0);
+        wardrobe = new WardrobeItemsDTO(PassportFixtures.wardrobe(wardrobeSize));
+    }
+
+    @Benchmark
+    public byte[] serializeProduct() {
+        return jsonMapper.writeValueAsBytes(product);
+    }
+
+    @Benchmark
+    public byte[] serializeWardrobe() {
+        return jsonMapper.writeValueAsBytes(wardrobe);
+    }
+}
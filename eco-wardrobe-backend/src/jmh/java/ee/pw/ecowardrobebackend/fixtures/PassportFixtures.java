@@ -0,0 +1,134 @@
+package ee.pw.ecowardrobebackend.fixtures;
+
+import ee.pw.ecowardrobebackend.entity.product.DurabilityAndCare;
+import ee.pw.ecowardrobebackend.entity.product.EndOfLife;
+import ee.pw.ecowardrobebackend.entity.product.Manufacturing;
+import ee.pw.ecowardrobebackend.entity.product.MaterialComposition;
+import ee.pw.ecowardrobebackend.entity.product.Metadata;
+import ee.pw.ecowardrobebackend.entity.product.Producer;
+import ee.pw.ecowardrobebackend.entity.product.Product;
+import ee.pw.ecowardrobebackend.entity.product.ProductEnvironmentImpact;
+import ee.pw.ecowardrobebackend.entity.product.ProductInformation;
+import ee.pw.ecowardrobebackend.entity.product.ProductionSite;
+import ee.pw.ecowardrobebackend.entity.product.Repairability;
+import ee.pw.ecowardrobebackend.entity.product.SupplyChainStage;
+import ee.pw.ecowardrobebackend.entity.product.SupplyChainTraceability;
+import ee.pw.ecowardrobebackend.entity.product.TakeBackProgram;
+import ee.pw.ecowardrobebackend.entity.user.Allergy;
+import ee.pw.ecowardrobebackend.entity.user.Preference;
+import ee.pw.ecowardrobebackend.entity.user.PreferredMaterials;
+import ee.pw.ecowardrobebackend.entity.user.User;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Benchmark data shaped like the passports DataLoader seeds: two materials, two production sites,
+ * two take-back programs and a three-stage supply chain per product.
+ */
+public final class PassportFixtures {
+    private PassportFixtures() {
+    }
+
+    public static Product product(int index) {
+        final String brand = "EkoUbrania " + index;
+        final String brandDomain = "ekoubrania" + index;
+        final Product product = Product.builder()
+                .id(UUID.nameUUIDFromBytes(("product-" + index).getBytes()))
+                .productInformation(new ProductInformation(
+                        String.format("59%011d", index),
+                        "Koszulka z bawełny organicznej",
+                        "Koszulki",
+                        brand,
+                        "Podstawowa Koszulka 2024"
+                ))
+                .materialCompositions(new ArrayList<>(List.of(
+                        MaterialComposition.builder()
+                                .materialName("Bawełna organiczna")
+                                .compositionPercentage(95)
+                                .certifications(List.of("GOTS", "OEKO-TEX"))
+                                .build(),
+                        MaterialComposition.builder()
+                                .materialName("Elastan")
+                                .compositionPercentage(5)
+                                .certifications(List.of("OEKO-TEX"))
+                                .build()
+                )))
+                .productEnvironmentImpact(new ProductEnvironmentImpact(12.5, 150.0, 45.0, 80.0, List.of("Nie wykryto")))
+                .manufacturing(new Manufacturing(
+                        new Producer(brand + " Producent", "Strefa Przemysłowa Zielona Dolina, Polska", "kontakt@" + brandDomain + ".com"),
+                        List.of(
+                                new ProductionSite("Polska", "FAB-001", List.of("Tkanie", "Barwienie")),
+                                new ProductionSite("Portugalia", "FAB-002", List.of("Montaż", "Kontrola Jakości"))
+                        ),
+                        LocalDateTime.of(2024, 6, 1, 12, 0).toString()
+                ))
+                .durabilityAndCare(new DurabilityAndCare(
+                        200,
+                        "Prać w pralce w 30°C, suszyć w suszarce na niskiej temperaturze, prasować na średniej temperaturze",
+                        new Repairability("Średnia", true, "https://naprawa." + brandDomain + ".com")
+                ))
+                .endOfLife(new EndOfLife(
+                        85.0,
+                        "https://recykling." + brandDomain + ".com/demontaz",
+                        List.of(
+                                new TakeBackProgram("Zielony Program Zwrotów", "https://" + brandDomain + ".com/zwroty"),
+                                new TakeBackProgram("Inicjatywa Recyklingu Tekstyliów", "https://siec-recyklingu.eu")
+                        )
+                ))
+                .supplyChainTraceability(new SupplyChainTraceability(List.of(
+                        new SupplyChainStage("Surowiec", "Spółdzielnia Gospodarstw Bawełny Organicznej", "Turcja", "GOTS"),
+                        new SupplyChainStage("Produkcja Tkanin", "Zakłady EkoTekstylne", "Polska", "OEKO-TEX"),
+                        new SupplyChainStage("Produkcja", brand + " Producent", "Portugalia", "Sprawiedliwy Handel")
+                )))
+                .metadata(new Metadata(
+                        LocalDateTime.of(2024, 6, 1, 12, 0).toString(),
+                        LocalDateTime.of(2024, 12, 1, 12, 0).toString(),
+                        brand
+                ))
+                .imageHash("9f86d081884c7d659a2feaa0c55ad015a3bf4f1b2b0b822cd15d6c15b0f00a08")
+                .ecoScore(74)
+                .build();
+        product.setCreatedAt(LocalDateTime.of(2024, 12, 1, 12, 0).plusMinutes(index));
+        product.setUpdatedAt(product.getCreatedAt());
+        return product;
+    }
+
+    public static List<Product> wardrobe(int size) {
+        final List<Product> products = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            products.add(product(i));
+        }
+        return products;
+    }
+
+    public static User influencer(int index, int wardrobeSize) {
+        final Set<Product> products = new HashSet<>();
+        for (int i = 0; i < wardrobeSize; i++) {
+            products.add(product(index * wardrobeSize + i));
+        }
+        return User.builder()
+                .id(UUID.nameUUIDFromBytes(("influencer-" + index).getBytes()))
+                .email("influencer" + index + "@wp.pl")
+                .name("Influencer " + index)
+                .isInfluencer(true)
+                .products(products)
+                .preference(new Preference(
+                        new HashSet<>(Set.of(new Allergy("Wełna"))),
+                        new HashSet<>(Set.of(new PreferredMaterials("Len"), new PreferredMaterials("Bawełna")))
+                ))
+                .build();
+    }
+
+    public static List<User> influencers(int count, int wardrobeSize) {
+        final List<User> influencers = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            influencers.add(influencer(i, wardrobeSize));
+        }
+        return influencers;
+    }
+}
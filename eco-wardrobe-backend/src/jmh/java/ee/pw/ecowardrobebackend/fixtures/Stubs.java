@@ -0,0 +1,28 @@
+package ee.pw.ecowardrobebackend.fixtures;
+
+import java.lang.reflect.Proxy;
+import java.util.Map;
+
+/**
+ * Minimal interface stubs for benchmarks that drive real services without a database.
+ */
+public final class Stubs {
+    private Stubs() {
+    }
+
+    public static <T> T stub(Class<T> type, Map<String, Object> returnValuesByMethod) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            if (method.getDeclaringClass() == Object.class) {
+                return switch (method.getName()) {
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    default -> type.getSimpleName() + " stub";
+                };
+            }
+            if (!returnValuesByMethod.containsKey(method.getName())) {
+                throw new UnsupportedOperationException(type.getSimpleName() + "." + method.getName() + " is not stubbed");
+            }
+            return returnValuesByMethod.get(method.getName());
+        }));
+    }
+}
@@ -0,0 +1,75 @@
+package ee.pw.ecowardrobebackend.service;
+
+import ee.pw.ecowardrobebackend.config.PasswordHashingProperties;
+import ee.pw.ecowardrobebackend.dto.user.UserDTO;
+import ee.pw.ecowardrobebackend.dto.user.UserLoginRequestDTO;
+import ee.pw.ecowardrobebackend.entity.user.User;
+import ee.pw.ecowardrobebackend.fixtures.PassportFixtures;
+import ee.pw.ecowardrobebackend.fixtures.Stubs;
+import ee.pw.ecowardrobebackend.repository.UserRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link UserService#loginUser} without the database, which leaves the password check as the
+ * dominant cost. Run with several BCrypt strengths to see what each step of the work factor costs.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LoginBenchmark {
+    private static final String PASSWORD = "password123";
+
+    @Param({"10", "12"})
+    private int bcryptStrength;
+
+    private PasswordHashingService passwordHashingService;
+    private UserService userService;
+    private UserLoginRequestDTO loginRequest;
+
+    @Setup
+    public void setUp() {
+        final BCryptPasswordEncoder passwordEncoder = new BCryptPasswordEncoder(bcryptStrength);
+        final User user = PassportFixtures.influencer(0, 0);
+        user.setPassword(passwordEncoder.encode(PASSWORD));
+
+        final UserRepository userRepository = Stubs.stub(UserRepository.class, Map.of(
+                "findWithPreferenceByEmail", Optional.of(user)
+        ));
+        // The image services are only used by photo uploads, which are not benchmarked.
+        passwordHashingService = new PasswordHashingService(
+                passwordEncoder,
+                new PasswordHashingProperties("bcrypt", bcryptStrength, 19456, 2, 1, 1, 64)
+        );
+        userService = new UserService(userRepository, passwordHashingService, event -> {}, null, null, null, null);
+        loginRequest = new UserLoginRequestDTO(user.getEmail(), PASSWORD);
+    }
+
+    @TearDown
+    public void tearDown() {
+        passwordHashingService.destroy();
+    }
+
+    @Benchmark
+    public Optional<UserDTO> login() {
+        return userService.loginUser(loginRequest).join();
+    }
+}
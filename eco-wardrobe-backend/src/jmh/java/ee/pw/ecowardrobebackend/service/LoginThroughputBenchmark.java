@@ -0,0 +1,79 @@
+package ee.pw.ecowardrobebackend.service;
+
+import ee.pw.ecowardrobebackend.config.PasswordHashingProperties;
+import ee.pw.ecowardrobebackend.dto.user.UserDTO;
+import ee.pw.ecowardrobebackend.dto.user.UserLoginRequestDTO;
+import ee.pw.ecowardrobebackend.entity.user.User;
+import ee.pw.ecowardrobebackend.fixtures.PassportFixtures;
+import ee.pw.ecowardrobebackend.fixtures.Stubs;
+import ee.pw.ecowardrobebackend.repository.UserRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Logins per second from 32 concurrent clients as the hashing pool grows. Throughput should rise
+ * with the pool until it reaches the core count and stay flat after that; the pool size, not the
+ * number of waiting clients, is what bounds hashing CPU.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(32)
+@Fork(1)
+public class LoginThroughputBenchmark {
+    private static final String PASSWORD = "password123";
+    private static final int BCRYPT_STRENGTH = 10;
+
+    @Param({"1", "2", "4", "8", "16"})
+    private int hashingThreads;
+
+    private PasswordHashingService passwordHashingService;
+    private UserService userService;
+    private UserLoginRequestDTO loginRequest;
+
+    @Setup
+    public void setUp() {
+        final BCryptPasswordEncoder passwordEncoder = new BCryptPasswordEncoder(BCRYPT_STRENGTH);
+        final User user = PassportFixtures.influencer(0, 0);
+        user.setPassword(passwordEncoder.encode(PASSWORD));
+
+        final UserRepository userRepository = Stubs.stub(UserRepository.class, Map.of(
+                "findWithPreferenceByEmail", Optional.of(user)
+        ));
+        // The queue holds every client, so no login is refused and only throughput is measured.
+        passwordHashingService = new PasswordHashingService(
+                passwordEncoder,
+                new PasswordHashingProperties("bcrypt", BCRYPT_STRENGTH, 19456, 2, 1, hashingThreads, 64)
+        );
+        userService = new UserService(userRepository, passwordHashingService, event -> {}, null, null, null, null);
+        loginRequest = new UserLoginRequestDTO(user.getEmail(), PASSWORD);
+    }
+
+    @TearDown
+    public void tearDown() {
+        passwordHashingService.destroy();
+    }
+
+    @Benchmark
+    public Optional<UserDTO> login() {
+        return userService.loginUser(loginRequest).join();
+    }
+}
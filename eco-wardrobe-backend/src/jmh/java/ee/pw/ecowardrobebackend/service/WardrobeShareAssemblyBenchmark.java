@@ -0,0 +1,76 @@
+package ee.pw.ecowardrobebackend.service;
+
+import ee.pw.ecowardrobebackend.dto.share.SavedWardrobeResponseDTO;
+import ee.pw.ecowardrobebackend.fixtures.PassportFixtures;
+import ee.pw.ecowardrobebackend.fixtures.Stubs;
+import ee.pw.ecowardrobebackend.repository.UserRepository;
+import ee.pw.ecowardrobebackend.repository.WardrobeShareRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.util.unit.DataSize;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DTO assembly in {@link WardrobeShareService} for the influencer feed, with and without
+ * serializing the result. Repositories are stubbed, so only mapping and JSON costs are measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WardrobeShareAssemblyBenchmark {
+    @Param({"2", "10"})
+    private int influencerCount;
+
+    @Param({"3", "30"})
+    private int wardrobeSize;
+
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+
+    private WardrobeShareService wardrobeShareService;
+
+    @Setup
+    public void setUp() {
+        final UserRepository userRepository = Stubs.stub(UserRepository.class, Map.of(
+                "findByIsInfluencer", PassportFixtures.influencers(influencerCount, wardrobeSize)
+        ));
+        // Password hashing and the image services are only used by login, registration and photo
+        // uploads, which are not benchmarked here.
+        final UserService userService = new UserService(userRepository, null, event -> {}, null, null, null, null);
+        final InfluencerWardrobeCache influencerWardrobeCache = new InfluencerWardrobeCache(
+                new SimpleMeterRegistry(), Duration.ofMinutes(10), DataSize.ofMegabytes(64)
+        );
+        wardrobeShareService = new WardrobeShareService(
+                Stubs.stub(WardrobeShareRepository.class, Map.of()),
+                userService,
+                influencerWardrobeCache,
+                new ShareCodeCache(new SimpleMeterRegistry(), 1)
+        );
+    }
+
+    @Benchmark
+    public SavedWardrobeResponseDTO assemble() {
+        return wardrobeShareService.getSharedInfluencerWardrobes();
+    }
+
+    @Benchmark
+    public byte[] assembleAndSerialize() {
+        return jsonMapper.writeValueAsBytes(wardrobeShareService.getSharedInfluencerWardrobes());
+    }
+}
@@ -0,0 +1,143 @@
+package ee.pw.ecowardrobebackend.config;
+
+import lombok.Getter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.context.request.WebRequest;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.JsonParser;
+import tools.jackson.databind.DeserializationFeature;
+import tools.jackson.databind.MapperFeature;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.SerializationFeature;
+import tools.jackson.databind.cfg.DateTimeFeature;
+import tools.jackson.databind.cfg.MapperBuilder;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.dataformat.cbor.CBORMapper;
+import tools.jackson.dataformat.smile.SmileMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The wire formats offered for passport payloads: JSON, CBOR and Smile. The binary formats share
+ * JSON's data model, so every DTO has the same shape in all three, but they write byte arrays such
+ * as uploaded images as raw bytes instead of base64 and encode names and numbers compactly. The
+ * binary mappers take their modules and settings from the application's {@link JsonMapper}, so
+ * spring.jackson properties apply to every format.
+ */
+@Component
+public class ContentFormats {
+    public static final String APPLICATION_SMILE_VALUE = "application/x-jackson-smile";
+    public static final MediaType APPLICATION_SMILE = MediaType.parseMediaType(APPLICATION_SMILE_VALUE);
+
+    @Getter
+    private final CBORMapper cborMapper;
+    @Getter
+    private final SmileMapper smileMapper;
+    private final ContentFormat json;
+    private final List<ContentFormat> formats;
+
+    public ContentFormats(JsonMapper jsonMapper) {
+        this.cborMapper = withSettingsOf(jsonMapper, CBORMapper.builder());
+        this.smileMapper = withSettingsOf(jsonMapper, SmileMapper.builder());
+        this.json = new ContentFormat(MediaType.APPLICATION_JSON, jsonMapper);
+        // JSON comes first, so a wildcard Accept keeps getting JSON.
+        this.formats = List.of(
+                json,
+                new ContentFormat(MediaType.APPLICATION_CBOR, cborMapper),
+                new ContentFormat(APPLICATION_SMILE, smileMapper)
+        );
+    }
+
+    public ContentFormat json() {
+        return json;
+    }
+
+    /**
+     * The format of a request body. NDJSON and unknown types are read as JSON.
+     */
+    public ContentFormat forContentType(MediaType contentType) {
+        return formats.stream()
+                .filter(format -> format.mediaType().isCompatibleWith(contentType))
+                .findFirst()
+                .orElse(json);
+    }
+
+    /**
+     * The format the client prefers by its Accept header, or JSON when it names none of them.
+     */
+    public ContentFormat negotiate(WebRequest request) {
+        final String[] acceptHeaders = request.getHeaderValues(HttpHeaders.ACCEPT);
+        if (acceptHeaders == null) {
+            return json;
+        }
+        final List<MediaType> acceptedTypes;
+        try {
+            acceptedTypes = new ArrayList<>(MediaType.parseMediaTypes(List.of(acceptHeaders)));
+        } catch (InvalidMediaTypeException e) {
+            return json;
+        }
+        MimeTypeUtils.sortBySpecificity(acceptedTypes);
+        for (MediaType acceptedType : acceptedTypes) {
+            for (ContentFormat format : formats) {
+                if (acceptedType.includes(format.mediaType())) {
+                    return format;
+                }
+            }
+        }
+        return json;
+    }
+
+    /**
+     * Re-encodes a JSON document in the given format token by token, without binding it to a type,
+     * so bodies cached as JSON can be served in any format.
+     */
+    public byte[] transcode(byte[] jsonBody, ContentFormat format) {
+        if (format == json) {
+            return jsonBody;
+        }
+        final ByteArrayOutputStream output = new ByteArrayOutputStream(jsonBody.length);
+        try (JsonParser parser = json.mapper().createParser(jsonBody);
+             JsonGenerator generator = format.mapper().createGenerator(output)) {
+            parser.nextToken();
+            generator.copyCurrentStructure(parser);
+        }
+        return output.toByteArray();
+    }
+
+    private static <M extends ObjectMapper, B extends MapperBuilder<M, B>> M withSettingsOf(JsonMapper jsonMapper, B builder) {
+        builder.addModules(jsonMapper.registeredModules());
+        for (MapperFeature feature : MapperFeature.values()) {
+            builder.configure(feature, jsonMapper.isEnabled(feature));
+        }
+        for (SerializationFeature feature : SerializationFeature.values()) {
+            builder.configure(feature, jsonMapper.isEnabled(feature));
+        }
+        for (DeserializationFeature feature : DeserializationFeature.values()) {
+            builder.configure(feature, jsonMapper.isEnabled(feature));
+        }
+        for (DateTimeFeature feature : DateTimeFeature.values()) {
+            builder.configure(feature, jsonMapper.serializationConfig().isEnabled(feature));
+        }
+        return builder
+                .propertyNamingStrategy(jsonMapper.serializationConfig().getPropertyNamingStrategy())
+                .changeDefaultPropertyInclusion(inclusion -> jsonMapper.serializationConfig().getDefaultPropertyInclusion())
+                .defaultTimeZone(jsonMapper.serializationConfig().getTimeZone())
+                .defaultLocale(jsonMapper.serializationConfig().getLocale())
+                .build();
+    }
+
+    public record ContentFormat(MediaType mediaType, ObjectMapper mapper) {
+        /**
+         * Tags an ETag with the format, because a strong ETag identifies one representation.
+         */
+        public String tag(String eTag) {
+            return MediaType.APPLICATION_JSON.equals(mediaType) ? eTag : eTag + "-" + mediaType.getSubtype();
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package ee.pw.ecowardrobebackend.config;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverters;
+import org.springframework.http.converter.cbor.JacksonCborHttpMessageConverter;
+import org.springframework.http.converter.smile.JacksonSmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Lets every endpoint that reads or writes a DTO negotiate CBOR and Smile next to JSON.
+ */
+@Configuration
+@RequiredArgsConstructor
+public class ContentNegotiationConfig implements WebMvcConfigurer {
+    private final ContentFormats contentFormats;
+
+    @Override
+    public void configureMessageConverters(HttpMessageConverters.ServerBuilder builder) {
+        builder.withCborConverter(new JacksonCborHttpMessageConverter(contentFormats.getCborMapper()))
+                .withSmileConverter(new JacksonSmileHttpMessageConverter(contentFormats.getSmileMapper()));
+    }
+}
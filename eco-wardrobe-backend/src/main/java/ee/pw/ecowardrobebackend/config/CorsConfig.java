@@ -20,6 +20,7 @@ public class CorsConfig implements WebMvcConfigurer {
         config.setAllowedOrigins(List.of("*"));
         config.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "DELETE", "OPTIONS", "PATCH"));
         config.setAllowedHeaders(List.of("*"));
+        config.setExposedHeaders(List.of("X-Session-Token"));
         config.setAllowCredentials(false);
         config.setMaxAge(3600L);
 
@@ -34,6 +35,7 @@ public class CorsConfig implements WebMvcConfigurer {
             .allowedOrigins("*")
             .allowedMethods("GET", "POST", "PUT", "DELETE", "OPTIONS", "PATCH")
             .allowedHeaders("*")
+            .exposedHeaders("X-Session-Token")
             .maxAge(3600);
     }
 }
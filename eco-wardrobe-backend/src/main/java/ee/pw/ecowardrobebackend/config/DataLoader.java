@@ -2,39 +2,78 @@ package ee.pw.ecowardrobebackend.config;
 
 import ee.pw.ecowardrobebackend.entity.product.*;
 import ee.pw.ecowardrobebackend.entity.user.User;
-import ee.pw.ecowardrobebackend.repository.ProductRepository;
+import ee.pw.ecowardrobebackend.event.WardrobeChangedEvent;
 import ee.pw.ecowardrobebackend.repository.UserRepository;
+import ee.pw.ecowardrobebackend.service.EcoScoreService;
+import ee.pw.ecowardrobebackend.service.ImageStorageService;
+import ee.pw.ecowardrobebackend.service.ImageThumbnailService;
+import ee.pw.ecowardrobebackend.service.WardrobeAnalyticsService;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.ClassPathResource;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.client.RestTemplate;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
-import jakarta.transaction.Transactional;
-import org.springframework.web.client.RestTemplate;
-
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class DataLoader implements CommandLineRunner {
+    private static final String PROFILE_PLACEHOLDER = "seed/profile-placeholder.png";
+    private static final String PRODUCT_PLACEHOLDER = "seed/product-placeholder.png";
+
     private final UserRepository userRepository;
-    private final ProductRepository productRepository;
     private final PasswordEncoder passwordEncoder;
     private final RestTemplate restTemplate;
+    private final ImageStorageService imageStorageService;
+    private final ImageThumbnailService imageThumbnailService;
+    private final EcoScoreService ecoScoreService;
+    private final TransactionTemplate transactionTemplate;
+    private final WardrobeAnalyticsService wardrobeAnalyticsService;
+    private final SeedProperties seedProperties;
+    private final ApplicationEventPublisher applicationEventPublisher;
 
     @Override
-    @Transactional
     public void run(String... args) {
+        if (!seedProperties.background()) {
+            seed();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    void seedInBackground() {
+        if (seedProperties.background()) {
+            Thread.ofPlatform().name("data-loader").daemon(true).start(this::seed);
+        }
+    }
+
+    private void seed() {
         if (userRepository.count() == 0) {
-            loadTestData();
+            try (ImageFetches images = new ImageFetches()) {
+                loadTestData(images);
+            }
         }
     }
 
-    private void loadTestData() {
+    private void loadTestData(ImageFetches images) {
         // Tworzenie użytkowników regularnych
         User user1 = User.builder()
                 .name("Jan Kowalski")
@@ -42,8 +81,8 @@ public class DataLoader implements CommandLineRunner {
                 .password(passwordEncoder.encode("password123"))
                 .isInfluencer(false)
                 .products(new HashSet<>())
-                .profilePicture(restTemplate.getForObject("https://media.licdn.com/dms/image/v2/D4D03AQFWKF59BKdA6w/profile-displayphoto-shrink_800_800/B4DZS35m5XG8Ac-/0/1738252123989?e=1766016000&v=beta&t=U6h4nWQniDIsNMFmVfTa2Ji0lY01WRGUJB0NAJ0v_OE", byte[].class))
                 .build();
+        images.fetch("https://media.licdn.com/dms/image/v2/D4D03AQFWKF59BKdA6w/profile-displayphoto-shrink_800_800/B4DZS35m5XG8Ac-/0/1738252123989?e=1766016000&v=beta&t=U6h4nWQniDIsNMFmVfTa2Ji0lY01WRGUJB0NAJ0v_OE", PROFILE_PLACEHOLDER, image -> user1.setProfilePictureHash(storeImage(image)));
 
         User user2 = User.builder()
                 .name("Anna Nowak")
@@ -51,8 +90,8 @@ public class DataLoader implements CommandLineRunner {
                 .password(passwordEncoder.encode("password123"))
                 .isInfluencer(false)
                 .products(new HashSet<>())
-                .profilePicture(restTemplate.getForObject("https://media.istockphoto.com/id/1437816897/photo/business-woman-manager-or-human-resources-portrait-for-career-success-company-we-are-hiring.jpg?s=612x612&w=0&k=20&c=tyLvtzutRh22j9GqSGI33Z4HpIwv9vL_MZw_xOE19NQ=", byte[].class))
                 .build();
+        images.fetch("https://media.istockphoto.com/id/1437816897/photo/business-woman-manager-or-human-resources-portrait-for-career-success-company-we-are-hiring.jpg?s=612x612&w=0&k=20&c=tyLvtzutRh22j9GqSGI33Z4HpIwv9vL_MZw_xOE19NQ=", PROFILE_PLACEHOLDER, image -> user2.setProfilePictureHash(storeImage(image)));
 
         User user3 = User.builder()
                 .name("Piotr Wiśniewski")
@@ -60,8 +99,8 @@ public class DataLoader implements CommandLineRunner {
                 .password(passwordEncoder.encode("password123"))
                 .isInfluencer(false)
                 .products(new HashSet<>())
-                .profilePicture(restTemplate.getForObject("https://media.licdn.com/dms/image/v2/D4D03AQHRyjS_ulUnbQ/profile-displayphoto-shrink_200_200/profile-displayphoto-shrink_200_200/0/1698778439429?e=2147483647&v=beta&t=xVyUz4LtIHEsCQXhwOMgP1rhDSNotkZxcBiFwKIF2n4", byte[].class))
                 .build();
+        images.fetch("https://media.licdn.com/dms/image/v2/D4D03AQHRyjS_ulUnbQ/profile-displayphoto-shrink_200_200/profile-displayphoto-shrink_200_200/0/1698778439429?e=2147483647&v=beta&t=xVyUz4LtIHEsCQXhwOMgP1rhDSNotkZxcBiFwKIF2n4", PROFILE_PLACEHOLDER, image -> user3.setProfilePictureHash(storeImage(image)));
 
         // Tworzenie influencerów
         User influencer1 = User.builder()
@@ -70,8 +109,8 @@ public class DataLoader implements CommandLineRunner {
                 .password(passwordEncoder.encode("influencer123"))
                 .isInfluencer(true)
                 .products(new HashSet<>())
-                .profilePicture(restTemplate.getForObject("https://encrypted-tbn0.gstatic.com/images?q=tbn:ANd9GcTguNUbYXI50tG9bX8iItFYfwA4ks7NLIcGRA&s", byte[].class))
                 .build();
+        images.fetch("https://encrypted-tbn0.gstatic.com/images?q=tbn:ANd9GcTguNUbYXI50tG9bX8iItFYfwA4ks7NLIcGRA&s", PROFILE_PLACEHOLDER, image -> influencer1.setProfilePictureHash(storeImage(image)));
 
         User influencer2 = User.builder()
                 .name("Karol Modny")
@@ -79,15 +118,8 @@ public class DataLoader implements CommandLineRunner {
                 .password(passwordEncoder.encode("influencer123"))
                 .isInfluencer(true)
                 .products(new HashSet<>())
-                .profilePicture(restTemplate.getForObject("https://fwcdn.pl/fph/97/11/10039711/1277428_1.2.jpg", byte[].class))
                 .build();
-
-        // Zapisanie użytkowników
-        user1 = userRepository.save(user1);
-        user2 = userRepository.save(user2);
-        user3 = userRepository.save(user3);
-        influencer1 = userRepository.save(influencer1);
-        influencer2 = userRepository.save(influencer2);
+        images.fetch("https://fwcdn.pl/fph/97/11/10039711/1277428_1.2.jpg", PROFILE_PLACEHOLDER, image -> influencer2.setProfilePictureHash(storeImage(image)));
 
         // Tworzenie produktów dla użytkownika 1
         Product product1 = createProduct(
@@ -102,9 +134,9 @@ public class DataLoader implements CommandLineRunner {
                 150.0,
                 45.0,
                 80.0,
-                "https://hf-hcms-staging1.azureedge.net/034/2526-0400.jpg_Original_637293292886130000.jpg"
+                "https://hf-hcms-staging1.azureedge.net/034/2526-0400.jpg_Original_637293292886130000.jpg",
+                images
         );
-        product1 = productRepository.save(product1);
         user1.getProducts().add(product1);
 
         Product product2 = createProduct(
@@ -119,9 +151,9 @@ public class DataLoader implements CommandLineRunner {
                 2500.0,
                 120.0,
                 60.0,
-                "https://wills-vegan-shoes.com/cdn/shop/files/Jeans1_92920de0-e46c-4c62-8383-f10103162e36.png?v=1731077386&width=1445"
+                "https://wills-vegan-shoes.com/cdn/shop/files/Jeans1_92920de0-e46c-4c62-8383-f10103162e36.png?v=1731077386&width=1445",
+                images
         );
-        product2 = productRepository.save(product2);
         user1.getProducts().add(product2);
 
         // Tworzenie produktów dla użytkownika 2
@@ -137,9 +169,9 @@ public class DataLoader implements CommandLineRunner {
                 800.0,
                 85.0,
                 50.0,
-                "https://somewoncollective.com/cdn/shop/files/Hemp-Hoodie-FGreen-front-studio-flat_2048x72ppi.png?v=1713850671&width=1080"
+                "https://somewoncollective.com/cdn/shop/files/Hemp-Hoodie-FGreen-front-studio-flat_2048x72ppi.png?v=1713850671&width=1080",
+                images
         );
-        product3 = productRepository.save(product3);
         user2.getProducts().add(product3);
 
         Product product4 = createProduct(
@@ -154,9 +186,9 @@ public class DataLoader implements CommandLineRunner {
                 50.0,
                 15.0,
                 90.0,
-                "https://www.mintandoak.in/cdn/shop/files/Combo_1.jpg?v=1757739849"
+                "https://www.mintandoak.in/cdn/shop/files/Combo_1.jpg?v=1757739849",
+                images
         );
-        product4 = productRepository.save(product4);
         user2.getProducts().add(product4);
 
         // Tworzenie produktów dla użytkownika 3
@@ -172,9 +204,9 @@ public class DataLoader implements CommandLineRunner {
                 1200.0,
                 180.0,
                 40.0,
-                "https://akn-lacoste.b-cdn.net/products/2024/09/11/281115/a29298eb-ac24-46a9-a711-3cb74af549b5_size2000x2000_cropCenter.jpg"
+                "https://akn-lacoste.b-cdn.net/products/2024/09/11/281115/a29298eb-ac24-46a9-a711-3cb74af549b5_size2000x2000_cropCenter.jpg",
+                images
         );
-        product5 = productRepository.save(product5);
         user3.getProducts().add(product5);
 
         // Tworzenie produktów dla influencera 1 (Marta Stylowa)
@@ -190,9 +222,9 @@ public class DataLoader implements CommandLineRunner {
                 1800.0,
                 200.0,
                 70.0,
-                "https://i.pinimg.com/736x/65/98/72/659872f34955e9b3e3a431bdcf88d12e.jpg"
+                "https://i.pinimg.com/736x/65/98/72/659872f34955e9b3e3a431bdcf88d12e.jpg",
+                images
         );
-        product6 = productRepository.save(product6);
         influencer1.getProducts().add(product6);
 
         Product product7 = createProduct(
@@ -207,9 +239,9 @@ public class DataLoader implements CommandLineRunner {
                 3500.0,
                 280.0,
                 30.0,
-                "https://images.squarespace-cdn.com/content/v1/547a3834e4b053a861c4874e/37ad42a2-950d-44b6-8442-ab9780a2ad6d/Sustainably%20Chic%20%7C%20Sustainable%20Fashion%20Blog%20%7C%20Sustainable%20Leather%20Jackets%20-%20Vegan,%20Vintage,%20Recycled%20%7C%20Matt%20&%20Nat.jpg"
+                "https://images.squarespace-cdn.com/content/v1/547a3834e4b053a861c4874e/37ad42a2-950d-44b6-8442-ab9780a2ad6d/Sustainably%20Chic%20%7C%20Sustainable%20Fashion%20Blog%20%7C%20Sustainable%20Leather%20Jackets%20-%20Vegan,%20Vintage,%20Recycled%20%7C%20Matt%20&%20Nat.jpg",
+                images
         );
-        product7 = productRepository.save(product7);
         influencer1.getProducts().add(product7);
 
         Product product8 = createProduct(
@@ -224,9 +256,9 @@ public class DataLoader implements CommandLineRunner {
                 2200.0,
                 220.0,
                 65.0,
-                "https://m.media-amazon.com/images/I/61v57R4nk3L._AC_UY1000_.jpg"
+                "https://m.media-amazon.com/images/I/61v57R4nk3L._AC_UY1000_.jpg",
+                images
         );
-        product8 = productRepository.save(product8);
         influencer1.getProducts().add(product8);
 
         // Tworzenie produktów dla influencera 2 (Karol Modny)
@@ -242,9 +274,9 @@ public class DataLoader implements CommandLineRunner {
                 1500.0,
                 140.0,
                 85.0,
-                "https://www.chinaecofiber.com/uploads/image/20210104/11/winter-jackets-for-men.jpg"
+                "https://www.chinaecofiber.com/uploads/image/20210104/11/winter-jackets-for-men.jpg",
+                images
         );
-        product9 = productRepository.save(product9);
         influencer2.getProducts().add(product9);
 
         Product product10 = createProduct(
@@ -259,9 +291,9 @@ public class DataLoader implements CommandLineRunner {
                 1100.0,
                 95.0,
                 75.0,
-                "https://sacksfashion.com/cdn/shop/files/15011_2.jpg?v=1738481569"
+                "https://sacksfashion.com/cdn/shop/files/15011_2.jpg?v=1738481569",
+                images
         );
-        product10 = productRepository.save(product10);
         influencer2.getProducts().add(product10);
 
         Product product11 = createProduct(
@@ -276,17 +308,24 @@ public class DataLoader implements CommandLineRunner {
                 2800.0,
                 165.0,
                 55.0,
-                "https://www.billboard.com/wp-content/uploads/2022/01/Valentino-Open-for-a-Change-Bio-Based-Material-Sneakers.jpg?w=988"
+                "https://www.billboard.com/wp-content/uploads/2022/01/Valentino-Open-for-a-Change-Bio-Based-Material-Sneakers.jpg?w=988",
+                images
         );
-        product11 = productRepository.save(product11);
         influencer2.getProducts().add(product11);
 
-        // Aktualizacja użytkowników
-        userRepository.save(user1);
-        userRepository.save(user2);
-        userRepository.save(user3);
-        userRepository.save(influencer1);
-        userRepository.save(influencer2);
+        // Zapisanie użytkowników wraz z produktami po pobraniu wszystkich obrazów
+        images.awaitAll();
+        final List<User> users = List.of(user1, user2, user3, influencer1, influencer2);
+        transactionTemplate.executeWithoutResult(status -> {
+            userRepository.saveAll(users);
+            users.forEach(user -> wardrobeAnalyticsService.create(user.getId()));
+        });
+        // A feed cached while seeding ran in the background would otherwise miss the seeded influencers.
+        users.stream()
+                .filter(User::isInfluencer)
+                .forEach(influencer -> applicationEventPublisher.publishEvent(
+                        new WardrobeChangedEvent(influencer.getId(), true)
+                ));
 
         System.out.println("Dane testowe załadowane pomyślnie!");
         System.out.println("Zwykli użytkownicy: Jan Kowalski, Anna Nowak, Piotr Wiśniewski");
@@ -306,7 +345,8 @@ public class DataLoader implements CommandLineRunner {
             Double waterUsage,
             Double energyUsage,
             Double recycledContent,
-            String imageUrl
+            String imageUrl,
+            ImageFetches images
     ) {
         // Informacje o produkcie
         ProductInformation productInfo = new ProductInformation(
@@ -384,7 +424,7 @@ public class DataLoader implements CommandLineRunner {
                 brand
         );
 
-        return Product.builder()
+        final Product product = Product.builder()
                 .productInformation(productInfo)
                 .materialCompositions(materials)
                 .productEnvironmentImpact(environmentImpact)
@@ -393,8 +433,10 @@ public class DataLoader implements CommandLineRunner {
                 .endOfLife(endOfLife)
                 .supplyChainTraceability(supplyChain)
                 .metadata(metadata)
-                .image(restTemplate.getForObject(imageUrl, byte[].class))
                 .build();
+        product.setEcoScore(ecoScoreService.calculate(product));
+        images.fetch(imageUrl, PRODUCT_PLACEHOLDER, image -> product.setImageHash(storeImage(image)));
+        return product;
     }
 
     private String getMaterialName(String productName, boolean isPrimary) {
@@ -430,4 +472,52 @@ public class DataLoader implements CommandLineRunner {
             return "Elastan";
         }
     }
-}
\ No newline at end of file
+
+    private String storeImage(byte[] image) {
+        final String hash = imageStorageService.store(image);
+        imageThumbnailService.generateAsync(hash);
+        return hash;
+    }
+
+    private byte[] placeholder(String asset) {
+        try {
+            return new ClassPathResource(asset).getContentAsByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Missing seed asset " + asset, e);
+        }
+    }
+
+    /**
+     * Downloads seed images concurrently on a bounded pool, so seeding waits for the slowest
+     * download rather than the sum of all of them. A download that fails or exceeds the timeout
+     * falls back to a bundled placeholder and is logged, which keeps startup working offline.
+     */
+    private final class ImageFetches implements AutoCloseable {
+        private final ExecutorService executor = Executors.newFixedThreadPool(seedProperties.imageFetchParallelism());
+        private final List<CompletableFuture<Void>> pending = new ArrayList<>();
+
+        void fetch(String url, String placeholder, Consumer<byte[]> target) {
+            final CompletableFuture<byte[]> download = seedProperties.downloadImages()
+                    ? CompletableFuture.supplyAsync(() -> restTemplate.getForObject(url, byte[].class), executor)
+                    : CompletableFuture.completedFuture(null);
+            pending.add(download
+                    .orTimeout(seedProperties.imageFetchTimeout().toMillis(), TimeUnit.MILLISECONDS)
+                    .exceptionally(e -> {
+                        log.warn("Could not download seed image {}, using {} instead", url, placeholder, e);
+                        return null;
+                    })
+                    .thenApply(image -> image == null || image.length == 0 ? placeholder(placeholder) : image)
+                    .thenAccept(target));
+        }
+
+        void awaitAll() {
+            CompletableFuture.allOf(pending.toArray(CompletableFuture[]::new)).join();
+        }
+
+        @Override
+        public void close() {
+            // Downloads that timed out may still be running; interrupt them instead of waiting.
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package ee.pw.ecowardrobebackend.config;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import tools.jackson.core.type.TypeReference;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Stores a histogram of counts per key in one column as a JSON object. Histograms read back are
+ * mutable, so aggregates can be updated in place.
+ */
+@Converter(autoApply = false)
+public class HistogramConverter implements AttributeConverter<Map<String, Long>, String> {
+    private static final JsonMapper JSON_MAPPER = JsonMapper.builder().build();
+    private static final TypeReference<LinkedHashMap<String, Long>> HISTOGRAM = new TypeReference<>() {
+    };
+
+    @Override
+    public String convertToDatabaseColumn(Map<String, Long> attribute) {
+        return JSON_MAPPER.writeValueAsString(attribute == null ? Map.of() : attribute);
+    }
+
+    @Override
+    public Map<String, Long> convertToEntityAttribute(String dbData) {
+        if (dbData == null || dbData.isEmpty()) return new LinkedHashMap<>();
+        return JSON_MAPPER.readValue(dbData, HISTOGRAM);
+    }
+}
@@ -6,26 +6,115 @@ import jakarta.persistence.Converter;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
-import java.util.stream.Collectors;
 
+/**
+ * Stores a list of strings in one column as {@code a|b|c}. A literal {@code |} or {@code \} inside a
+ * value is escaped with {@code \}, a {@code null} element is written as {@code \0}, and a list holding
+ * only an empty string as {@code \e}, since an empty column means an empty list. Every non-null list
+ * round-trips unchanged; {@code null} is read back as an empty list. Lists read back are immutable.
+ */
 @Converter(autoApply = false)
 public class ListStringConverter implements AttributeConverter<List<String>, String> {
-    private static final String SEP = "||";
+    private static final char SEPARATOR = '|';
+    private static final char ESCAPE = '\\';
+    private static final char NULL_MARKER = '0';
+    private static final char EMPTY_MARKER = 'e';
+    private static final int INITIAL_CAPACITY = 4;
 
     @Override
     public String convertToDatabaseColumn(List<String> attribute) {
         if (attribute == null || attribute.isEmpty()) return null;
-        return attribute.stream()
-                .map(s -> s == null ? "" : s)
-                .collect(Collectors.joining(SEP));
+        if (attribute.size() == 1 && "".equals(attribute.getFirst())) {
+            return String.valueOf(new char[]{ESCAPE, EMPTY_MARKER});
+        }
+
+        int capacity = attribute.size();
+        for (String value : attribute) {
+            capacity += value == null ? 2 : value.length();
+        }
+
+        final StringBuilder column = new StringBuilder(capacity);
+        for (int i = 0; i < attribute.size(); i++) {
+            if (i > 0) {
+                column.append(SEPARATOR);
+            }
+            appendEscaped(column, attribute.get(i));
+        }
+        return column.toString();
     }
 
     @Override
     public List<String> convertToEntityAttribute(String dbData) {
         if (dbData == null || dbData.isEmpty()) return Collections.emptyList();
-        return Arrays.stream(dbData.split(java.util.regex.Pattern.quote(SEP)))
-                .map(s -> s.isEmpty() ? null : s)
-                .collect(Collectors.toList());
+
+        final int length = dbData.length();
+        String[] values = new String[INITIAL_CAPACITY];
+        int count = 0;
+        int position = 0;
+        while (true) {
+            int segmentStart = position;
+            StringBuilder unescaped = null;
+            boolean nullValue = false;
+            while (position < length) {
+                final char current = dbData.charAt(position);
+                if (current == SEPARATOR) {
+                    break;
+                }
+                if (current == ESCAPE && position + 1 < length) {
+                    if (unescaped == null) {
+                        unescaped = new StringBuilder(length - segmentStart);
+                    }
+                    unescaped.append(dbData, segmentStart, position);
+                    final char escaped = dbData.charAt(position + 1);
+                    if (escaped == NULL_MARKER) {
+                        nullValue = true;
+                    } else if (escaped != EMPTY_MARKER) {
+                        unescaped.append(escaped);
+                    }
+                    position += 2;
+                    segmentStart = position;
+                } else {
+                    position++;
+                }
+            }
+
+            final String value;
+            if (nullValue) {
+                value = null;
+            } else if (unescaped == null) {
+                value = dbData.substring(segmentStart, position);
+            } else {
+                value = unescaped.append(dbData, segmentStart, position).toString();
+            }
+
+            if (count == values.length) {
+                values = Arrays.copyOf(values, count * 2);
+            }
+            values[count++] = value;
+
+            if (position >= length) {
+                break;
+            }
+            position++;
+        }
+
+        if (count == 1) {
+            return Collections.singletonList(values[0]);
+        }
+        return Collections.unmodifiableList(Arrays.asList(count == values.length ? values : Arrays.copyOf(values, count)));
     }
-}
 
+    private static void appendEscaped(StringBuilder column, String value) {
+        if (value == null) {
+            column.append(ESCAPE).append(NULL_MARKER);
+            return;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            final char current = value.charAt(i);
+            if (current == SEPARATOR || current == ESCAPE) {
+                column.append(ESCAPE);
+            }
+            column.append(current);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package ee.pw.ecowardrobebackend.config;
+
+import org.hibernate.search.backend.lucene.analysis.LuceneAnalysisConfigurationContext;
+import org.hibernate.search.backend.lucene.analysis.LuceneAnalysisConfigurer;
+
+/**
+ * Text analysis for passport search. Folding diacritics lets "welna" match "Wełna" and
+ * "bawelna" match "Bawełna organiczna".
+ */
+public class PassportAnalysisConfigurer implements LuceneAnalysisConfigurer {
+    public static final String PASSPORT_TEXT = "passport_text";
+
+    @Override
+    public void configure(LuceneAnalysisConfigurationContext context) {
+        context.analyzer(PASSPORT_TEXT).custom()
+                .tokenizer("standard")
+                .tokenFilter("lowercase")
+                .tokenFilter("asciiFolding");
+    }
+}
@@ -0,0 +1,27 @@
+package ee.pw.ecowardrobebackend.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Password hashing algorithm, cost and the size of the pool that runs it. Changing the algorithm
+ * or raising the cost takes effect for new passwords immediately; existing hashes are upgraded the
+ * next time their owner logs in.
+ */
+@ConfigurationProperties(prefix = "app.security.password")
+public record PasswordHashingProperties(
+        @DefaultValue("bcrypt") String algorithm,
+        @DefaultValue("10") int bcryptStrength,
+        @DefaultValue("19456") int argon2MemoryKib,
+        @DefaultValue("2") int argon2Iterations,
+        @DefaultValue("1") int argon2Parallelism,
+        @DefaultValue("0") int threads,
+        @DefaultValue("64") int queueCapacity
+) {
+    /**
+     * Hashing is CPU-bound, so by default the pool gets one thread per core.
+     */
+    public int effectiveThreads() {
+        return threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+    }
+}
@@ -0,0 +1,58 @@
+package ee.pw.ecowardrobebackend.config;
+
+import ee.pw.ecowardrobebackend.entity.product.Product;
+import ee.pw.ecowardrobebackend.repository.ProductRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.search.mapper.orm.Search;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Rebuilds the product search index when it does not match the database, e.g. on the first start
+ * against an existing database or after the index directory was removed. Writes are indexed as they
+ * commit, so on a normal restart the counts match and nothing is done.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SearchIndexInitializer {
+    private static final int LOADING_THREADS = 2;
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final ProductRepository productRepository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    void reindexIfStale() {
+        final long indexedProducts;
+        try (EntityManager entityManager = entityManagerFactory.createEntityManager()) {
+            indexedProducts = Search.session(entityManager)
+                    .search(Product.class)
+                    .where(f -> f.matchAll())
+                    .fetchTotalHitCount();
+        }
+        final long storedProducts = productRepository.count();
+        if (indexedProducts == storedProducts) {
+            return;
+        }
+
+        // Runs in the background so a large catalog does not delay readiness; until it finishes,
+        // search results are incomplete.
+        log.info("Search index has {} of {} products, rebuilding it", indexedProducts, storedProducts);
+        Search.mapping(entityManagerFactory)
+                .scope(Product.class)
+                .massIndexer()
+                .threadsToLoadObjects(LOADING_THREADS)
+                .start()
+                .whenComplete((result, failure) -> {
+                    if (failure != null) {
+                        log.error("Could not rebuild the search index", failure);
+                    } else {
+                        log.info("Search index rebuilt");
+                    }
+                });
+    }
+}
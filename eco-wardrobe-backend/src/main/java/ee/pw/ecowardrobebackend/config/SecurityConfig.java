@@ -1,20 +1,57 @@
 package ee.pw.ecowardrobebackend.config;
 
+import ee.pw.ecowardrobebackend.metrics.TimedPasswordEncoder;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.thread.Threading;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.client.RestTemplate;
 
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.Executors;
+
 @Configuration
 class SecurityConfig {
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(PasswordHashingProperties properties, MeterRegistry meterRegistry) {
+        final BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(properties.bcryptStrength());
+        final Map<String, PasswordEncoder> encoders = Map.of(
+                "bcrypt", bcrypt,
+                "argon2", new Argon2PasswordEncoder(
+                        16,
+                        32,
+                        properties.argon2Parallelism(),
+                        properties.argon2MemoryKib(),
+                        properties.argon2Iterations()
+                )
+        );
+        if (!encoders.containsKey(properties.algorithm())) {
+            throw new IllegalArgumentException("Unsupported password hashing algorithm " + properties.algorithm());
+        }
+        final DelegatingPasswordEncoder passwordEncoder = new DelegatingPasswordEncoder(properties.algorithm(), encoders);
+        // Hashes stored before the {id} prefix was introduced are plain BCrypt.
+        passwordEncoder.setDefaultPasswordEncoderForMatches(bcrypt);
+        return new TimedPasswordEncoder(passwordEncoder, meterRegistry);
     }
 
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public RestTemplate restTemplate(Environment environment) {
+        final HttpClient.Builder httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .followRedirects(HttpClient.Redirect.NORMAL);
+        if (Threading.VIRTUAL.isActive(environment)) {
+            httpClient.executor(Executors.newVirtualThreadPerTaskExecutor());
+        }
+        final JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient.build());
+        requestFactory.setReadTimeout(Duration.ofSeconds(30));
+        return new RestTemplate(requestFactory);
     }
 }
@@ -0,0 +1,15 @@
+package ee.pw.ecowardrobebackend.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "app.seed")
+public record SeedProperties(
+        @DefaultValue("true") boolean downloadImages,
+        @DefaultValue("8") int imageFetchParallelism,
+        @DefaultValue("10s") Duration imageFetchTimeout,
+        @DefaultValue("false") boolean background
+) {
+}
@@ -0,0 +1,25 @@
+package ee.pw.ecowardrobebackend.controller;
+
+import ee.pw.ecowardrobebackend.dto.analytics.WardrobeAnalyticsDTO;
+import ee.pw.ecowardrobebackend.service.WardrobeAnalyticsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/analytics")
+@RequiredArgsConstructor
+class AnalyticsController {
+    private final WardrobeAnalyticsService wardrobeAnalyticsService;
+
+    @GetMapping("/{userId}")
+    public ResponseEntity<WardrobeAnalyticsDTO> getWardrobeAnalytics(@PathVariable UUID userId) {
+        final WardrobeAnalyticsDTO analytics = wardrobeAnalyticsService.getAnalytics(userId);
+        return ResponseEntity.ok(analytics);
+    }
+}
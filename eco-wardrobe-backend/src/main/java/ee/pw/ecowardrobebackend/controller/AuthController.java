@@ -3,29 +3,48 @@ package ee.pw.ecowardrobebackend.controller;
 import ee.pw.ecowardrobebackend.dto.user.UserDTO;
 import ee.pw.ecowardrobebackend.dto.user.UserLoginRequestDTO;
 import ee.pw.ecowardrobebackend.dto.user.UserRegistrationDTO;
+import ee.pw.ecowardrobebackend.security.SessionTokenService;
+import ee.pw.ecowardrobebackend.service.PasswordHashingBusyException;
 import ee.pw.ecowardrobebackend.service.UserService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.concurrent.CompletableFuture;
+
 @RestController
 @RequestMapping("/api/auth")
 @RequiredArgsConstructor
 class AuthController {
+    static final String SESSION_TOKEN_HEADER = "X-Session-Token";
+
     private final UserService userService;
+    private final SessionTokenService sessionTokenService;
 
     @PostMapping("/register")
-    public ResponseEntity<UserDTO> register(@RequestBody UserRegistrationDTO userRegistrationDTO) {
-        final UserDTO userDTO = userService.registerUser(userRegistrationDTO);
-        return ResponseEntity.status(HttpStatus.CREATED).body(userDTO);
+    public CompletableFuture<ResponseEntity<UserDTO>> register(@RequestBody UserRegistrationDTO userRegistrationDTO) {
+        return userService.registerUser(userRegistrationDTO)
+                .thenApply(userDTO -> ResponseEntity.status(HttpStatus.CREATED)
+                        .header(SESSION_TOKEN_HEADER, sessionTokenService.issue(userDTO.id(), userDTO.isInfluencer()))
+                        .body(userDTO));
     }
 
     @PostMapping("/login")
-    public ResponseEntity<UserDTO> login(@RequestBody UserLoginRequestDTO userLoginRequestDTO) {
+    public CompletableFuture<ResponseEntity<UserDTO>> login(@RequestBody UserLoginRequestDTO userLoginRequestDTO) {
         return userService.loginUser(userLoginRequestDTO)
-                .map(ResponseEntity::ok)
-                .orElse(ResponseEntity.status(HttpStatus.UNAUTHORIZED).build());
+                .thenApply(userDTO -> userDTO
+                        .map(user -> ResponseEntity.ok()
+                                .header(SESSION_TOKEN_HEADER, sessionTokenService.issue(user.id(), user.isInfluencer()))
+                                .body(user))
+                        .orElse(ResponseEntity.status(HttpStatus.UNAUTHORIZED).build()));
     }
-}
 
+    @ExceptionHandler(PasswordHashingBusyException.class)
+    public ResponseEntity<Void> passwordHashingBusy() {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .build();
+    }
+}
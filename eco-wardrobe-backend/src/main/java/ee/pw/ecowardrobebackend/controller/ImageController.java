@@ -0,0 +1,77 @@
+package ee.pw.ecowardrobebackend.controller;
+
+import ee.pw.ecowardrobebackend.service.ImageStorageService;
+import ee.pw.ecowardrobebackend.service.ImageThumbnailService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.OptionalInt;
+
+@RestController
+@RequestMapping("/api/images")
+@RequiredArgsConstructor
+class ImageController {
+    private static final CacheControl IMMUTABLE = CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable();
+
+    private final ImageStorageService imageStorageService;
+
+    @GetMapping("/{hash}")
+    public ResponseEntity<Resource> getImage(
+            @PathVariable String hash,
+            @RequestParam(required = false) Integer size,
+            WebRequest webRequest
+    ) {
+        final Optional<Path> image = imageStorageService.find(hash);
+        if (image.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        if (size == null) {
+            return serve(image.get(), hash, IMMUTABLE, webRequest);
+        }
+        if (size < 1) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        final OptionalInt thumbnailSize = ImageThumbnailService.fit(size);
+        if (thumbnailSize.isEmpty()) {
+            return serve(image.get(), hash, IMMUTABLE, webRequest);
+        }
+        final Optional<Path> thumbnail = imageStorageService.findThumbnail(hash, thumbnailSize.getAsInt());
+        if (thumbnail.isPresent()) {
+            return serve(thumbnail.get(), hash + "-" + thumbnailSize.getAsInt(), IMMUTABLE, webRequest);
+        }
+        // Thumbnails are still being generated: send the original but make clients revalidate,
+        // so the next request picks up the thumbnail under its own ETag.
+        return serve(image.get(), hash, CacheControl.noCache(), webRequest);
+    }
+
+    private ResponseEntity<Resource> serve(Path path, String eTag, CacheControl cacheControl, WebRequest webRequest) {
+        // Blobs are addressed by their digest, so the ETag is a strong validator and If-None-Match
+        // is answered with 304 before the file is opened.
+        if (webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(eTag)
+                    .cacheControl(cacheControl)
+                    .build();
+        }
+
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(cacheControl)
+                .contentType(imageStorageService.detectMediaType(path))
+                .body(new FileSystemResource(path));
+    }
+}
@@ -0,0 +1,43 @@
+package ee.pw.ecowardrobebackend.controller;
+
+import ee.pw.ecowardrobebackend.config.ContentFormats;
+import ee.pw.ecowardrobebackend.service.PassportCatalogService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+@RestController
+@RequestMapping("/api/passports")
+@RequiredArgsConstructor
+class PassportController {
+    private static final Pattern GTIN_PATTERN = Pattern.compile("\\d{8,14}");
+
+    private final PassportCatalogService passportCatalogService;
+    private final ContentFormats contentFormats;
+
+    @GetMapping("/{gtin}")
+    public ResponseEntity<byte[]> getPassport(@PathVariable String gtin, WebRequest webRequest) {
+        // Anything that is not a GTIN is rejected before it can take up a cache entry.
+        if (!GTIN_PATTERN.matcher(gtin).matches()) {
+            return ResponseEntity.badRequest().build();
+        }
+        // The cache holds one JSON body per GTIN; binary formats are transcoded from it, so a
+        // passport update only ever invalidates a single entry.
+        final ContentFormats.ContentFormat format = contentFormats.negotiate(webRequest);
+        final Optional<byte[]> passport = passportCatalogService.getPassportJson(gtin);
+        return passport
+                .map(json -> ResponseEntity.ok()
+                        .varyBy(HttpHeaders.ACCEPT)
+                        .contentType(format.mediaType())
+                        .body(contentFormats.transcode(json, format)))
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+}
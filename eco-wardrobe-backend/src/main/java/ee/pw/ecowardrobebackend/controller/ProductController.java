@@ -1,19 +1,37 @@
 package ee.pw.ecowardrobebackend.controller;
 
+import ee.pw.ecowardrobebackend.config.ContentFormats;
+import ee.pw.ecowardrobebackend.dto.product.BulkImportResultDTO;
 import ee.pw.ecowardrobebackend.dto.product.CreateProductDTO;
+import ee.pw.ecowardrobebackend.dto.product.ProductSearchRequestDTO;
+import ee.pw.ecowardrobebackend.dto.product.ProductSearchResultDTO;
+import ee.pw.ecowardrobebackend.dto.product.WardrobeChangesDTO;
 import ee.pw.ecowardrobebackend.dto.product.WardrobeItemsDTO;
+import ee.pw.ecowardrobebackend.dto.product.WardrobePageDTO;
 import ee.pw.ecowardrobebackend.entity.product.Product;
+import ee.pw.ecowardrobebackend.security.OwnerOnly;
+import ee.pw.ecowardrobebackend.service.ProductSearchService;
 import ee.pw.ecowardrobebackend.service.ProductService;
+import ee.pw.ecowardrobebackend.service.WardrobeChangeService;
+import ee.pw.ecowardrobebackend.service.WardrobeVersionService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
+import java.io.InputStream;
 import java.util.UUID;
 
 @RestController
@@ -21,7 +39,12 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class ProductController {
     private final ProductService productService;
+    private final ProductSearchService productSearchService;
+    private final WardrobeVersionService wardrobeVersionService;
+    private final WardrobeChangeService wardrobeChangeService;
+    private final ContentFormats contentFormats;
 
+    @OwnerOnly("id")
     @PostMapping("/create/{id}")
     public ResponseEntity<Product> createProduct(
             @RequestBody CreateProductDTO createProductDTO,
@@ -31,9 +54,113 @@ public class ProductController {
         return ResponseEntity.ok(product);
     }
 
+    @OwnerOnly("id")
+    @PostMapping(
+            value = "/bulk/{id}",
+            consumes = {
+                    MediaType.APPLICATION_JSON_VALUE,
+                    MediaType.APPLICATION_NDJSON_VALUE,
+                    MediaType.APPLICATION_CBOR_VALUE,
+                    ContentFormats.APPLICATION_SMILE_VALUE
+            }
+    )
+    public ResponseEntity<BulkImportResultDTO> importProducts(
+            @PathVariable(name = "id") UUID userId,
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+            InputStream passports
+    ) {
+        final BulkImportResultDTO importResult = productService.importProducts(
+                userId,
+                passports,
+                contentFormats.forContentType(contentType).mapper()
+        );
+        return ResponseEntity.ok(importResult);
+    }
+
+    @OwnerOnly("id")
+    @DeleteMapping("/{id}/{productId}")
+    public ResponseEntity<Void> removeProduct(
+            @PathVariable(name = "id") UUID userId,
+            @PathVariable UUID productId
+    ) {
+        if (!productService.removeFromWardrobe(userId, productId)) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+        }
+        return ResponseEntity.noContent().build();
+    }
+
+    @GetMapping("/{id}/changes")
+    public ResponseEntity<WardrobeChangesDTO> getWardrobeChanges(
+            @PathVariable(name = "id") UUID userId,
+            @RequestParam(required = false) Long since
+    ) {
+        final WardrobeChangesDTO changes = wardrobeChangeService.getChanges(userId, since);
+        return ResponseEntity.ok(changes);
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<ProductSearchResultDTO> searchProducts(ProductSearchRequestDTO searchRequest) {
+        final ProductSearchResultDTO searchResult = productSearchService.search(searchRequest);
+        return ResponseEntity.ok(searchResult);
+    }
+
     @GetMapping("/{id}")
-    public ResponseEntity<WardrobeItemsDTO> getUserWardrobeItems(@PathVariable(name = "id") UUID userId) {
-        final WardrobeItemsDTO wardrobeItems = productService.getUserWardrobeItems(userId);
-        return new ResponseEntity<>(wardrobeItems, HttpStatus.OK);
+    public ResponseEntity<WardrobeItemsDTO> getUserWardrobeItems(
+            @PathVariable(name = "id") UUID userId,
+            @RequestParam(required = false) Integer minEcoScore,
+            WebRequest webRequest
+    ) {
+        // The version is read before the wardrobe, so a change committed in between makes the
+        // response carry the older ETag and the next request fetches it again. The same read
+        // rejects an unknown user, so the wardrobe is loaded without another existence probe.
+        // One negotiation picks the ETag suffix and, through the preset content type, the converter
+        // that writes the body.
+        final ContentFormats.ContentFormat format = contentFormats.negotiate(webRequest);
+        final String eTag = format.tag(wardrobeVersionService.getWardrobeETag(userId));
+        if (webRequest.checkNotModified(eTag)) {
+            return notModified(eTag);
+        }
+
+        final WardrobeItemsDTO wardrobeItems = minEcoScore == null
+                ? productService.getUserWardrobeItems(userId)
+                : productService.getUserWardrobeItemsByEcoScore(userId, minEcoScore);
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(CacheControl.noCache())
+                .varyBy(HttpHeaders.ACCEPT)
+                .contentType(format.mediaType())
+                .body(wardrobeItems);
+    }
+
+    @GetMapping(value = "/{id}", params = "limit")
+    public ResponseEntity<WardrobePageDTO> getUserWardrobePage(
+            @PathVariable(name = "id") UUID userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam int limit,
+            WebRequest webRequest
+    ) {
+        // One negotiation picks the ETag suffix and, through the preset content type, the converter
+        // that writes the body.
+        final ContentFormats.ContentFormat format = contentFormats.negotiate(webRequest);
+        final String eTag = format.tag(wardrobeVersionService.getWardrobeETag(userId));
+        if (webRequest.checkNotModified(eTag)) {
+            return notModified(eTag);
+        }
+
+        final WardrobePageDTO wardrobePage = productService.getUserWardrobePage(userId, cursor, limit);
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(CacheControl.noCache())
+                .varyBy(HttpHeaders.ACCEPT)
+                .contentType(format.mediaType())
+                .body(wardrobePage);
+    }
+
+    private static <T> ResponseEntity<T> notModified(String eTag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .eTag(eTag)
+                .cacheControl(CacheControl.noCache())
+                .varyBy(HttpHeaders.ACCEPT)
+                .build();
     }
 }
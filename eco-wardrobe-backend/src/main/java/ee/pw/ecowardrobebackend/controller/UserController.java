@@ -3,6 +3,7 @@ package ee.pw.ecowardrobebackend.controller;
 import ee.pw.ecowardrobebackend.dto.user.AddUserPhotoRequestDTO;
 import ee.pw.ecowardrobebackend.dto.user.ModifyPreferencesRequestDTO;
 import ee.pw.ecowardrobebackend.dto.user.UserDTO;
+import ee.pw.ecowardrobebackend.security.OwnerOnly;
 import ee.pw.ecowardrobebackend.service.UserService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -20,12 +21,14 @@ import java.util.UUID;
 class UserController {
     private final UserService userService;
 
+    @OwnerOnly("userId")
     @PostMapping("/add-photo/{userId}")
     public UserDTO addProfilePicture(@RequestBody AddUserPhotoRequestDTO addUserPhotoRequestDTO, @PathVariable
                                                      UUID userId) {
         return userService.addUserPhoto(addUserPhotoRequestDTO, userId);
     }
 
+    @OwnerOnly("userId")
     @PostMapping("/modify-preferences/{userId}")
     public UserDTO modifyPreferences(@RequestBody ModifyPreferencesRequestDTO modifyPreferencesRequestDTO, @PathVariable UUID userId) {
         return userService.modifyPreferencesFor(modifyPreferencesRequestDTO, userId);
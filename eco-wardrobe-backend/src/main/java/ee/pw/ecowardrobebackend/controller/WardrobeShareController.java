@@ -1,10 +1,16 @@
 package ee.pw.ecowardrobebackend.controller;
 
-import ee.pw.ecowardrobebackend.dto.share.SavedWardrobeResponseDTO;
+import ee.pw.ecowardrobebackend.config.ContentFormats;
 import ee.pw.ecowardrobebackend.dto.share.WardrobeShareResponseDTO;
 import ee.pw.ecowardrobebackend.dto.share.AddWardrobeShareRequestDTO;
+import ee.pw.ecowardrobebackend.security.OwnerOnly;
+import ee.pw.ecowardrobebackend.service.InfluencerWardrobeCache;
+import ee.pw.ecowardrobebackend.service.SavedWardrobeStreamingService;
 import ee.pw.ecowardrobebackend.service.WardrobeShareService;
+import ee.pw.ecowardrobebackend.service.WardrobeVersionService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -13,6 +19,8 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.UUID;
 
@@ -21,26 +29,43 @@ import java.util.UUID;
 @RequiredArgsConstructor
 class WardrobeShareController {
     private final WardrobeShareService wardrobeShareService;
+    private final SavedWardrobeStreamingService savedWardrobeStreamingService;
+    private final WardrobeVersionService wardrobeVersionService;
+    private final ContentFormats contentFormats;
 
+    @OwnerOnly("userId")
     @GetMapping("/get-saved-wardrobes/{userId}")
-    public ResponseEntity<SavedWardrobeResponseDTO> getSavedWardrobeItems(@PathVariable UUID userId) {
-        final SavedWardrobeResponseDTO response = wardrobeShareService.getSavedWardrobeItems(userId);
-        return new ResponseEntity<>(response, HttpStatus.OK);
+    public ResponseEntity<StreamingResponseBody> getSavedWardrobeItems(@PathVariable UUID userId, WebRequest webRequest) {
+        final ContentFormats.ContentFormat format = contentFormats.negotiate(webRequest);
+        final String eTag = format.tag(wardrobeVersionService.getSavedWardrobesETag(userId));
+        if (webRequest.checkNotModified(eTag)) {
+            return notModified(eTag);
+        }
+
+        final StreamingResponseBody response = savedWardrobeStreamingService.streamSavedWardrobeItems(userId, format.mapper());
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(CacheControl.noCache())
+                .varyBy(HttpHeaders.ACCEPT)
+                .contentType(format.mediaType())
+                .body(response);
     }
 
+    @OwnerOnly("id")
     @GetMapping("/share/{id}")
     public ResponseEntity<WardrobeShareResponseDTO> shareWardrobe(@PathVariable UUID id) {
         final WardrobeShareResponseDTO response = wardrobeShareService.shareWardrobe(id);
         return new ResponseEntity<>(response, HttpStatus.OK);
     }
 
+    @OwnerOnly("userId")
     @PostMapping("/add-wardrobe/{userId}")
     public ResponseEntity<Void> addUserWardrobe(
             @RequestBody AddWardrobeShareRequestDTO addWardrobeShareRequestDTO,
             @PathVariable UUID userId
     ) {
         boolean success = wardrobeShareService.addUserWardrobe(
-                addWardrobeShareRequestDTO.shareCode().toString(),
+                addWardrobeShareRequestDTO.shareCode(),
                 userId
         );
 
@@ -52,8 +77,26 @@ class WardrobeShareController {
     }
 
     @GetMapping("/get-shared-influencers-wardrobes")
-    public ResponseEntity<SavedWardrobeResponseDTO> getSharedInfluencersWardrobes() {
-        final SavedWardrobeResponseDTO response = wardrobeShareService.getSharedInfluencerWardrobes();
-        return new ResponseEntity<>(response, HttpStatus.OK);
+    public ResponseEntity<byte[]> getSharedInfluencersWardrobes(WebRequest webRequest) {
+        final ContentFormats.ContentFormat format = contentFormats.negotiate(webRequest);
+        final InfluencerWardrobeCache.Feed feed = wardrobeShareService.getSharedInfluencerWardrobesFeed(format);
+        if (webRequest.checkNotModified(feed.eTag())) {
+            return notModified(feed.eTag());
+        }
+
+        return ResponseEntity.ok()
+                .eTag(feed.eTag())
+                .cacheControl(CacheControl.noCache())
+                .varyBy(HttpHeaders.ACCEPT)
+                .contentType(format.mediaType())
+                .body(feed.body());
+    }
+
+    private static <T> ResponseEntity<T> notModified(String eTag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .eTag(eTag)
+                .cacheControl(CacheControl.noCache())
+                .varyBy(HttpHeaders.ACCEPT)
+                .build();
     }
 }
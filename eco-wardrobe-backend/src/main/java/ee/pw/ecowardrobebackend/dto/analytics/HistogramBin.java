@@ -0,0 +1,7 @@
+package ee.pw.ecowardrobebackend.dto.analytics;
+
+/**
+ * One group of a JPQL {@code group by} query.
+ */
+public record HistogramBin(String key, Long value) {
+}
@@ -0,0 +1,19 @@
+package ee.pw.ecowardrobebackend.dto.analytics;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Wardrobe totals with products per category and each material's share, in percent, of all
+ * material compositions in the wardrobe.
+ */
+public record WardrobeAnalyticsDTO(
+        UUID userId,
+        long itemCount,
+        double carbonFootprintKgCO2e,
+        double waterUsageLiters,
+        double energyKwh,
+        Map<String, Long> categories,
+        Map<String, Double> materialShares
+) {
+}
@@ -0,0 +1,7 @@
+package ee.pw.ecowardrobebackend.dto.analytics;
+
+/**
+ * Built by a JPQL constructor expression over a set of products.
+ */
+public record WardrobeTotals(Long itemCount, Double carbonFootprintKgCO2e, Double waterUsageLiters, Double energyKwh) {
+}
@@ -0,0 +1,16 @@
+package ee.pw.ecowardrobebackend.dto.product;
+
+import java.util.List;
+import java.util.UUID;
+
+public record BulkImportResultDTO(int imported, int failed, List<ItemResult> items) {
+    public record ItemResult(int index, UUID productId, String error) {
+        public static ItemResult imported(int index, UUID productId) {
+            return new ItemResult(index, productId, null);
+        }
+
+        public static ItemResult failed(int index, String error) {
+            return new ItemResult(index, null, error);
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package ee.pw.ecowardrobebackend.dto.product;
+
+import ee.pw.ecowardrobebackend.entity.product.Product;
+
+import java.util.UUID;
+
+/**
+ * A product together with the wardrobe it was read from, for queries spanning several wardrobes.
+ */
+public record OwnedProduct(UUID ownerId, Product product) {
+}
@@ -0,0 +1,14 @@
+package ee.pw.ecowardrobebackend.dto.product;
+
+public record ProductSearchRequestDTO(
+        String q,
+        String brand,
+        String category,
+        String material,
+        String certification,
+        String country,
+        Integer minEcoScore,
+        Integer page,
+        Integer size
+) {
+}
@@ -0,0 +1,11 @@
+package ee.pw.ecowardrobebackend.dto.product;
+
+import java.util.List;
+import java.util.Map;
+
+public record ProductSearchResultDTO(
+        long totalHits,
+        List<ProductSummaryDTO> items,
+        Map<String, Map<String, Long>> facets
+) {
+}
@@ -0,0 +1,23 @@
+package ee.pw.ecowardrobebackend.dto.product;
+
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.FieldProjection;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.IdProjection;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.ProjectionConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * A search hit, projected straight from the search index so a search never loads the full
+ * passport.
+ */
+@ProjectionConstructor
+public record ProductSummaryDTO(
+        @IdProjection UUID id,
+        @FieldProjection(path = "productInformation.productName") String productName,
+        @FieldProjection(path = "productInformation.brand_keyword") String brand,
+        @FieldProjection(path = "productInformation.category") String category,
+        Integer ecoScore,
+        String imageHash,
+        LocalDateTime createdAt
+) {}
@@ -0,0 +1,13 @@
+package ee.pw.ecowardrobebackend.dto.product;
+
+import ee.pw.ecowardrobebackend.entity.product.Product;
+
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * Products added to a wardrobe and ids of products removed from it since the client's watermark.
+ * The client sends {@code watermark} as {@code since} on its next sync.
+ */
+public record WardrobeChangesDTO(Collection<Product> products, Collection<UUID> removedProductIds, long watermark) {
+}
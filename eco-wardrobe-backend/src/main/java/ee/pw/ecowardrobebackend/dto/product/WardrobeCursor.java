@@ -0,0 +1,37 @@
+package ee.pw.ecowardrobebackend.dto.product;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Position of the last item of a wardrobe page in (addedAt, product id) order. Clients only ever see
+ * the encoded form and send it back unchanged.
+ */
+public record WardrobeCursor(LocalDateTime addedAt, UUID id) {
+    private static final char SEPARATOR = '|';
+
+    public static WardrobeCursor after(WardrobeItemSummaryDTO lastItem) {
+        return new WardrobeCursor(lastItem.addedAt(), lastItem.id());
+    }
+
+    public static WardrobeCursor decode(String encoded) {
+        try {
+            final String decoded = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+            final int separator = decoded.indexOf(SEPARATOR);
+            return new WardrobeCursor(
+                    LocalDateTime.parse(decoded.substring(0, separator)),
+                    UUID.fromString(decoded.substring(separator + 1))
+            );
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid wardrobe cursor " + encoded, e);
+        }
+    }
+
+    public String encode() {
+        final String raw = addedAt.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,18 @@
+package ee.pw.ecowardrobebackend.dto.product;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * One item of a wardrobe page, built by a JPQL constructor expression. {@code addedAt} is when the
+ * product was added to this wardrobe.
+ */
+public record WardrobeItemSummaryDTO(
+        UUID id,
+        String productName,
+        String brand,
+        String category,
+        Integer ecoScore,
+        String imageHash,
+        LocalDateTime addedAt
+) {}
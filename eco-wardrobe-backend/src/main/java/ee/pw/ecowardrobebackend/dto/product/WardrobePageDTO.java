@@ -0,0 +1,6 @@
+package ee.pw.ecowardrobebackend.dto.product;
+
+import java.util.List;
+
+public record WardrobePageDTO(List<WardrobeItemSummaryDTO> items, String nextCursor) {
+}
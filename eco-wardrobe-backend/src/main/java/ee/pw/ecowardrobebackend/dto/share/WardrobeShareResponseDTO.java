@@ -2,5 +2,5 @@ package ee.pw.ecowardrobebackend.dto.share;
 
 import java.util.UUID;
 
-public record WardrobeShareResponseDTO(UUID id, String shareCode) {
+public record WardrobeShareResponseDTO(UUID id, UUID shareCode) {
 }
@@ -6,6 +6,6 @@ import lombok.Builder;
 import java.util.UUID;
 
 @Builder
-public record UserDTO(UUID id, String email, String name, byte[] profilePicture, boolean isInfluencer, Preference preference) {
+public record UserDTO(UUID id, String email, String name, String profilePictureHash, boolean isInfluencer, Preference preference) {
 }
 
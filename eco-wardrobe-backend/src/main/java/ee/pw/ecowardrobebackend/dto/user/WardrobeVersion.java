@@ -0,0 +1,6 @@
+package ee.pw.ecowardrobebackend.dto.user;
+
+import java.util.UUID;
+
+public record WardrobeVersion(UUID userId, Long version) {
+}
@@ -0,0 +1,57 @@
+package ee.pw.ecowardrobebackend.entity.analytics;
+
+import ee.pw.ecowardrobebackend.config.HistogramConverter;
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Lob;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Running totals over one user's wardrobe, updated whenever products are linked to it. A row whose
+ * {@code rebuiltAt} is {@code null} has never been computed from the wardrobe and holds no data.
+ */
+@Entity
+@Table(name = "wardrobe_analytics")
+@NoArgsConstructor
+@Getter
+@Setter
+public class WardrobeAnalytics {
+    @Id
+    @Column(name = "user_id")
+    private UUID userId;
+
+    @Column(name = "item_count")
+    private long itemCount;
+
+    @Column(name = "carbon_footprint_kg_co2e")
+    private double carbonFootprintKgCO2e;
+
+    @Column(name = "water_usage_liters")
+    private double waterUsageLiters;
+
+    @Column(name = "energy_kwh")
+    private double energyKwh;
+
+    // Products per category.
+    @Lob
+    @Convert(converter = HistogramConverter.class)
+    private Map<String, Long> categories = new LinkedHashMap<>();
+
+    // Composition percentages summed per material; divided by their total they give material shares.
+    @Lob
+    @Convert(converter = HistogramConverter.class)
+    private Map<String, Long> materials = new LinkedHashMap<>();
+
+    @Column(name = "rebuilt_at")
+    private LocalDateTime rebuiltAt;
+}
@@ -9,6 +9,9 @@ import lombok.Setter;
 import lombok.experimental.SuperBuilder;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
+import org.hibernate.search.engine.backend.types.Projectable;
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.GenericField;
 
 import java.time.LocalDateTime;
 
@@ -21,6 +24,7 @@ import java.time.LocalDateTime;
 public class Auditable {
     @Column(name = "created_at", nullable = false, updatable = false)
     @CreationTimestamp
+    @GenericField(projectable = Projectable.YES, sortable = Sortable.YES)
     private LocalDateTime createdAt;
 
     @Column(name = "updated_at")
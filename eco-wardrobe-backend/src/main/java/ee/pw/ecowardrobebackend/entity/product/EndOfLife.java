@@ -1,7 +1,11 @@
 package ee.pw.ecowardrobebackend.entity.product;
 
+import jakarta.persistence.CollectionTable;
+import jakarta.persistence.Column;
 import jakarta.persistence.Embeddable;
 import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -15,9 +19,15 @@ import java.util.List;
 @Setter
 public class EndOfLife {
     private Double recyclabilityPercentage;
+    @Column(name = "disassembly_instructions_url")
     private String disassemblyInstructionsURL;
 
     @ElementCollection
+    @CollectionTable(
+            name = "products_take_back_programs",
+            joinColumns = @JoinColumn(name = "product_id"),
+            indexes = @Index(name = "idx_products_take_back_programs_product_id", columnList = "product_id")
+    )
     private List<TakeBackProgram> takeBackPrograms;
 }
 
@@ -1,12 +1,16 @@
 package ee.pw.ecowardrobebackend.entity.product;
 
+import jakarta.persistence.CollectionTable;
 import jakarta.persistence.Embeddable;
 import jakarta.persistence.ElementCollection;
 import jakarta.persistence.Embedded;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.IndexedEmbedded;
 import java.util.List;
 
 @Embeddable
@@ -19,6 +23,12 @@ public class Manufacturing {
     private Producer producer;
 
     @ElementCollection
+    @CollectionTable(
+            name = "products_production_sites",
+            joinColumns = @JoinColumn(name = "product_id"),
+            indexes = @Index(name = "idx_products_production_sites_product_id", columnList = "product_id")
+    )
+    @IndexedEmbedded
     private List<ProductionSite> productionSites;
 
     private String manufacturingDate;
@@ -1,6 +1,7 @@
 package ee.pw.ecowardrobebackend.entity.product;
 
 import ee.pw.ecowardrobebackend.config.ListStringConverter;
+import ee.pw.ecowardrobebackend.config.PassportAnalysisConfigurer;
 import jakarta.persistence.Convert;
 import jakarta.persistence.Embeddable;
 import lombok.AllArgsConstructor;
@@ -8,6 +9,9 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.search.engine.backend.types.Aggregable;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.FullTextField;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.KeywordField;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -19,10 +23,13 @@ import java.util.List;
 @Setter
 @Builder
 public class MaterialComposition {
+    @FullTextField(analyzer = PassportAnalysisConfigurer.PASSPORT_TEXT)
+    @KeywordField(name = "materialName_keyword", aggregable = Aggregable.YES)
     private String materialName;
     private int compositionPercentage;
 
     @Convert(converter = ListStringConverter.class)
+    @KeywordField(aggregable = Aggregable.YES)
     @Builder.Default
     private List<String> certifications = new ArrayList<>();
 }
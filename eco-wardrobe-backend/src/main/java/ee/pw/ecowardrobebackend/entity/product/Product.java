@@ -8,13 +8,25 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.search.engine.backend.types.Aggregable;
+import org.hibernate.search.engine.backend.types.Projectable;
+import org.hibernate.search.engine.backend.types.Searchable;
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.GenericField;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Indexed;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.IndexedEmbedded;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.KeywordField;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
 @Entity
-@Table(name = "products")
+@Indexed(index = "products")
+@Table(name = "products", indexes = {
+        @Index(name = "idx_products_eco_score", columnList = "eco_score"),
+        @Index(name = "uk_products_gtin", columnList = "gtin", unique = true)
+})
 @AllArgsConstructor
 @NoArgsConstructor
 @Getter
@@ -26,15 +38,23 @@ public class Product extends Auditable {
     private UUID id;
 
     @Embedded
+    @IndexedEmbedded
     private ProductInformation productInformation;
 
     @ElementCollection
+    @CollectionTable(
+            name = "products_material_compositions",
+            joinColumns = @JoinColumn(name = "product_id"),
+            indexes = @Index(name = "idx_products_material_compositions_product_id", columnList = "product_id")
+    )
+    @IndexedEmbedded
     private List<MaterialComposition> materialCompositions = new ArrayList<>();
 
     @Embedded
     private ProductEnvironmentImpact productEnvironmentImpact;
 
     @Embedded
+    @IndexedEmbedded
     private Manufacturing manufacturing;
 
     @Embedded
@@ -44,12 +64,17 @@ public class Product extends Auditable {
     private EndOfLife endOfLife;
 
     @Embedded
+    @IndexedEmbedded
     private SupplyChainTraceability supplyChainTraceability;
 
     @Embedded
     private Metadata metadata;
 
-    @Lob
-    @Column(columnDefinition = "BLOB")
-    private byte[] image;
+    @Column(name = "image_hash", length = 64)
+    @KeywordField(projectable = Projectable.YES, searchable = Searchable.NO)
+    private String imageHash;
+
+    @Column(name = "eco_score")
+    @GenericField(projectable = Projectable.YES, sortable = Sortable.YES, aggregable = Aggregable.YES)
+    private Integer ecoScore;
 }
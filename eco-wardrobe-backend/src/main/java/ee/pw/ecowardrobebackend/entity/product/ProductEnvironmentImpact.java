@@ -1,6 +1,7 @@
 package ee.pw.ecowardrobebackend.entity.product;
 
 import ee.pw.ecowardrobebackend.config.ListStringConverter;
+import jakarta.persistence.Column;
 import jakarta.persistence.Convert;
 import jakarta.persistence.Embeddable;
 import lombok.AllArgsConstructor;
@@ -17,6 +18,7 @@ import java.util.List;
 @Setter
 public class ProductEnvironmentImpact {
 
+    @Column(name = "carbon_footprint_kg_co2e")
     private Double carbonFootprintKgCO2e;
 
     private Double waterUsageLiters;
@@ -1,10 +1,15 @@
 package ee.pw.ecowardrobebackend.entity.product;
 
+import ee.pw.ecowardrobebackend.config.PassportAnalysisConfigurer;
 import jakarta.persistence.Embeddable;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.search.engine.backend.types.Aggregable;
+import org.hibernate.search.engine.backend.types.Projectable;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.FullTextField;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.KeywordField;
 
 @Embeddable
 @AllArgsConstructor
@@ -12,9 +17,15 @@ import lombok.Setter;
 @Getter
 @Setter
 public class ProductInformation {
+    @KeywordField
     private String gtin;
+    @FullTextField(analyzer = PassportAnalysisConfigurer.PASSPORT_TEXT, projectable = Projectable.YES)
     private String productName;
+    @KeywordField(aggregable = Aggregable.YES, projectable = Projectable.YES)
     private String category;
+    @FullTextField(analyzer = PassportAnalysisConfigurer.PASSPORT_TEXT)
+    @KeywordField(name = "brand_keyword", aggregable = Aggregable.YES, projectable = Projectable.YES)
     private String brand;
+    @FullTextField(analyzer = PassportAnalysisConfigurer.PASSPORT_TEXT)
     private String model;
 }
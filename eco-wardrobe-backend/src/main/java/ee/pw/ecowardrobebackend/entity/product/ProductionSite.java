@@ -6,6 +6,8 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.search.engine.backend.types.Aggregable;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.KeywordField;
 import java.util.List;
 
 @Embeddable
@@ -14,6 +16,7 @@ import java.util.List;
 @Getter
 @Setter
 public class ProductionSite {
+    @KeywordField(aggregable = Aggregable.YES)
     private String country;
     private String facilityId;
 
@@ -1,5 +1,6 @@
 package ee.pw.ecowardrobebackend.entity.product;
 
+import jakarta.persistence.Column;
 import jakarta.persistence.Embeddable;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -14,6 +15,7 @@ import lombok.Setter;
 public class Repairability {
     private String repairDifficulty;
     private Boolean sparePartsAvailable;
+    @Column(name = "repair_guides_url")
     private String repairGuidesURL;
 }
 
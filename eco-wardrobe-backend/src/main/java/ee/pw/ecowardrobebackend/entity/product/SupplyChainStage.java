@@ -1,10 +1,14 @@
 package ee.pw.ecowardrobebackend.entity.product;
 
+import ee.pw.ecowardrobebackend.config.PassportAnalysisConfigurer;
 import jakarta.persistence.Embeddable;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.search.engine.backend.types.Aggregable;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.FullTextField;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.KeywordField;
 
 @Embeddable
 @AllArgsConstructor
@@ -12,9 +16,13 @@ import lombok.Setter;
 @Getter
 @Setter
 public class SupplyChainStage {
+    @KeywordField
     private String stage;
+    @FullTextField(analyzer = PassportAnalysisConfigurer.PASSPORT_TEXT)
     private String supplier;
+    @KeywordField(aggregable = Aggregable.YES)
     private String country;
+    @KeywordField(aggregable = Aggregable.YES)
     private String certificate;
 }
 
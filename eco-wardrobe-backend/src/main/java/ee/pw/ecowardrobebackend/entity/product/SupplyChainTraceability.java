@@ -1,11 +1,15 @@
 package ee.pw.ecowardrobebackend.entity.product;
 
+import jakarta.persistence.CollectionTable;
 import jakarta.persistence.Embeddable;
 import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.IndexedEmbedded;
 import java.util.List;
 
 @Embeddable
@@ -15,6 +19,12 @@ import java.util.List;
 @Setter
 public class SupplyChainTraceability {
     @ElementCollection
+    @CollectionTable(
+            name = "products_supply_chain",
+            joinColumns = @JoinColumn(name = "product_id"),
+            indexes = @Index(name = "idx_products_supply_chain_product_id", columnList = "product_id")
+    )
+    @IndexedEmbedded
     private List<SupplyChainStage> chain;
 }
 
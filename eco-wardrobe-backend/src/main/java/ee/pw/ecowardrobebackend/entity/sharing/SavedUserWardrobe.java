@@ -16,7 +16,9 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.ToString;
+import org.hibernate.annotations.ColumnDefault;
 
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
@@ -35,4 +37,9 @@ public class SavedUserWardrobe {
     @EqualsAndHashCode.Exclude
     @ToString.Exclude
     private User userWardrobeOwner;
+
+    // Filled by the database; orders a user's saved wardrobes.
+    @Column(name = "saved_at", nullable = false, insertable = false, updatable = false)
+    @ColumnDefault("current_timestamp")
+    private LocalDateTime savedAt;
 }
@@ -7,6 +7,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
@@ -20,7 +21,10 @@ import lombok.ToString;
 import java.util.UUID;
 
 @Entity
-@Table(name = "wardrobe_share")
+@Table(
+        name = "wardrobe_share",
+        indexes = @Index(name = "uk_wardrobe_share_share_code", columnList = "share_code", unique = true)
+)
 @AllArgsConstructor
 @NoArgsConstructor
 @Getter
@@ -31,8 +35,8 @@ public class WardrobeShare {
     @GeneratedValue(strategy = GenerationType.UUID)
     private UUID id;
 
-    @Column(name = "share_code")
-    private String shareCode;
+    @Column(name = "share_code", nullable = false)
+    private UUID shareCode;
 
     @ManyToOne(fetch = FetchType.LAZY)
     @EqualsAndHashCode.Exclude
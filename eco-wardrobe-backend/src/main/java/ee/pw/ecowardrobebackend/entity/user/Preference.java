@@ -1,7 +1,9 @@
 package ee.pw.ecowardrobebackend.entity.user;
 
+import jakarta.persistence.CollectionTable;
 import jakarta.persistence.ElementCollection;
 import jakarta.persistence.Embeddable;
+import jakarta.persistence.JoinColumn;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -17,8 +19,10 @@ import java.util.Set;
 @Setter
 public class Preference {
     @ElementCollection
+    @CollectionTable(name = "users_allergies", joinColumns = @JoinColumn(name = "user_id"))
     private Set<Allergy> allergies = new HashSet<>();
 
     @ElementCollection
+    @CollectionTable(name = "users_preferred_materials", joinColumns = @JoinColumn(name = "user_id"))
     private Set<PreferredMaterials> preferredMaterials = new HashSet<>();
 }
@@ -13,13 +13,14 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.ToString;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.util.HashSet;
 import java.util.Set;
 import java.util.UUID;
 
 @Entity
-@Table(name = "users")
+@Table(name = "users", indexes = @Index(name = "idx_users_is_influencer", columnList = "is_influencer"))
 @AllArgsConstructor
 @NoArgsConstructor
 @Getter
@@ -37,25 +38,47 @@ public class User extends Auditable {
 
     private String password;
 
-    @OneToMany(fetch = FetchType.EAGER, cascade = CascadeType.ALL)
+    // Passports with a GTIN are shared between wardrobes, so a product may belong to many users.
+    @ManyToMany(fetch = FetchType.LAZY, cascade = {CascadeType.PERSIST, CascadeType.MERGE})
+    @JoinTable(
+            name = "users_products",
+            joinColumns = @JoinColumn(name = "users_id"),
+            inverseJoinColumns = @JoinColumn(name = "products_id"),
+            indexes = @Index(name = "idx_users_products_products_id", columnList = "products_id")
+    )
     @ToString.Exclude
     @EqualsAndHashCode.Exclude
     @Builder.Default
     private Set<Product> products = new HashSet<>();
 
-    @OneToMany(fetch = FetchType.EAGER, cascade = CascadeType.ALL)
+    @OneToMany(fetch = FetchType.LAZY, cascade = CascadeType.ALL)
+    @JoinTable(
+            name = "users_saved_wardrobes",
+            joinColumns = @JoinColumn(name = "users_id"),
+            inverseJoinColumns = @JoinColumn(name = "saved_wardrobes_id")
+    )
     @ToString.Exclude
     @EqualsAndHashCode.Exclude
     @Builder.Default
     private Set<SavedUserWardrobe> savedUserWardrobes = new HashSet<>();
 
-    @Lob
-    @Column(name = "profile_picture", columnDefinition = "BLOB")
-    private byte[] profilePicture;
+    @Column(name = "profile_picture_hash", length = 64)
+    private String profilePictureHash;
 
     private boolean isInfluencer;
 
-    @OneToMany(fetch = FetchType.EAGER, cascade = CascadeType.ALL)
+    // Only ever changed by UserRepository.incrementWardrobeVersion, so saving a stale copy of the
+    // user cannot move it back.
+    @Column(name = "wardrobe_version", nullable = false, insertable = false, updatable = false)
+    @ColumnDefault("0")
+    private long wardrobeVersion;
+
+    @OneToMany(fetch = FetchType.LAZY, cascade = CascadeType.ALL)
+    @JoinTable(
+            name = "users_wardrobe_shares",
+            joinColumns = @JoinColumn(name = "users_id"),
+            inverseJoinColumns = @JoinColumn(name = "wardrobe_shares_id")
+    )
     @ToString.Exclude
     @EqualsAndHashCode.Exclude
     private Set<WardrobeShare> wardrobeShares = new HashSet<>();
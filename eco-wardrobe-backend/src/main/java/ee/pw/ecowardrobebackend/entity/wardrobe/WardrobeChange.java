@@ -0,0 +1,44 @@
+package ee.pw.ecowardrobebackend.entity.wardrobe;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * One product linked to or unlinked from a user's wardrobe. Rows are only appended, and a removal
+ * row is the tombstone that tells syncing clients to drop the product. The id orders the changes of
+ * one wardrobe and serves as the sync watermark.
+ */
+@Entity
+@Table(
+        name = "wardrobe_changes",
+        indexes = @Index(name = "idx_wardrobe_changes_user_id_id", columnList = "user_id, id")
+)
+@NoArgsConstructor
+@Getter
+public class WardrobeChange {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private UUID userId;
+
+    @Column(name = "product_id", nullable = false)
+    private UUID productId;
+
+    @Column(nullable = false)
+    private boolean removed;
+
+    @Column(name = "changed_at", nullable = false)
+    private LocalDateTime changedAt;
+}
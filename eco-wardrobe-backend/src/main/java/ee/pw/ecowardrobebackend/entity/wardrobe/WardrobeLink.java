@@ -0,0 +1,55 @@
+package ee.pw.ecowardrobebackend.entity.wardrobe;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.Immutable;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Read-only view of one {@code users_products} row, which {@code User.products} writes. Passports
+ * are shared, so the product's own timestamps say nothing about this wardrobe; {@code addedAt}
+ * records when the product was linked to it and orders wardrobe pages.
+ */
+@Entity
+@Immutable
+@IdClass(WardrobeLink.Key.class)
+@Table(
+        name = "users_products",
+        indexes = @Index(name = "idx_users_products_users_id_added_at", columnList = "users_id, added_at, products_id")
+)
+@NoArgsConstructor
+@Getter
+public class WardrobeLink {
+    @Id
+    @Column(name = "users_id")
+    private UUID userId;
+
+    @Id
+    @Column(name = "products_id")
+    private UUID productId;
+
+    // Filled by the database, so links inserted through the collection or by plain SQL get it too.
+    @Column(name = "added_at", nullable = false, insertable = false, updatable = false)
+    @ColumnDefault("current_timestamp")
+    private LocalDateTime addedAt;
+
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private UUID userId;
+        private UUID productId;
+    }
+}
@@ -0,0 +1,10 @@
+package ee.pw.ecowardrobebackend.event;
+
+import java.util.UUID;
+
+/**
+ * Published whenever data shown in a user's public wardrobe changes: products, profile picture
+ * or preferences.
+ */
+public record WardrobeChangedEvent(UUID userId, boolean influencer) {
+}
@@ -0,0 +1,18 @@
+package ee.pw.ecowardrobebackend.metrics;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.hibernate.autoconfigure.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+class MetricsConfig {
+    @Bean
+    HibernatePropertiesCustomizer workloadCountingCustomizer() {
+        final WorkloadCountingInterceptor interceptor = new WorkloadCountingInterceptor();
+        return properties -> {
+            properties.put(AvailableSettings.STATEMENT_INSPECTOR, interceptor);
+            properties.put(AvailableSettings.INTERCEPTOR, interceptor);
+        };
+    }
+}
@@ -0,0 +1,218 @@
+package ee.pw.ecowardrobebackend.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.http.Outcome;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.Charset;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Records per-endpoint distributions of the SQL statements, entity loads and response bytes each
+ * request costs. Latency per endpoint comes from Spring's own {@code http.server.requests} timer;
+ * these summaries share its {@code method}, {@code uri} and {@code outcome} tags so the two can be
+ * read together. An async request that times out is tagged {@code TIMEOUT}.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+@RequiredArgsConstructor
+class RequestMetricsFilter extends OncePerRequestFilter {
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        final CountingResponse countingResponse = new CountingResponse(response);
+        final RequestWorkload workload = RequestWorkload.begin();
+        boolean handled = false;
+        try {
+            filterChain.doFilter(request, countingResponse);
+            countingResponse.flushWriter();
+            handled = true;
+        } finally {
+            RequestWorkload.end();
+            if (request.isAsyncStarted()) {
+                // Streamed bodies are written after this thread returns; count them on completion.
+                request.getAsyncContext().addListener(new RecordOnComplete(request, workload, countingResponse));
+            } else {
+                record(request, workload, countingResponse.bytesWritten(), handled ? outcomeOf(response) : Outcome.SERVER_ERROR.name());
+            }
+        }
+    }
+
+    private void record(HttpServletRequest request, RequestWorkload workload, long responseBytes, String outcome) {
+        final Tags tags = Tags.of("method", request.getMethod(), "uri", uriTemplate(request), "outcome", outcome);
+        DistributionSummary.builder("http.server.requests.sql.statements")
+                .description("SQL statements prepared while handling a request")
+                .tags(tags)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(workload.statements());
+        DistributionSummary.builder("http.server.requests.entity.loads")
+                .description("Entities loaded by Hibernate while handling a request")
+                .tags(tags)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(workload.entityLoads());
+        DistributionSummary.builder("http.server.response.size")
+                .description("Response body size")
+                .baseUnit("bytes")
+                .tags(tags)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(responseBytes);
+    }
+
+    private static String uriTemplate(HttpServletRequest request) {
+        // The matched pattern, not the raw path, so user and product ids do not explode the tag values.
+        final Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern == null ? "UNKNOWN" : pattern.toString();
+    }
+
+    private static String outcomeOf(HttpServletResponse response) {
+        return Outcome.forStatus(response.getStatus()).name();
+    }
+
+    /**
+     * Records an async request once, whichever way it ends. The container follows a timeout or an
+     * error with {@code onComplete}, so only the first callback is recorded and it sets the outcome.
+     */
+    private final class RecordOnComplete implements AsyncListener {
+        private final HttpServletRequest request;
+        private final RequestWorkload workload;
+        private final CountingResponse response;
+        private final AtomicBoolean recorded = new AtomicBoolean();
+
+        private RecordOnComplete(HttpServletRequest request, RequestWorkload workload, CountingResponse response) {
+            this.request = request;
+            this.workload = workload;
+            this.response = response;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            recordOnce(outcomeOf(response));
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            recordOnce("TIMEOUT");
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            recordOnce(Outcome.SERVER_ERROR.name());
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+
+        private void recordOnce(String outcome) {
+            if (recorded.compareAndSet(false, true)) {
+                record(request, workload, response.bytesWritten(), outcome);
+            }
+        }
+    }
+
+    private static final class CountingResponse extends HttpServletResponseWrapper {
+        private CountingOutputStream outputStream;
+        private PrintWriter writer;
+
+        private CountingResponse(HttpServletResponse response) {
+            super(response);
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            if (outputStream == null) {
+                outputStream = new CountingOutputStream(super.getOutputStream());
+            }
+            return outputStream;
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            if (writer == null) {
+                writer = new PrintWriter(new OutputStreamWriter(getOutputStream(), Charset.forName(getCharacterEncoding())));
+            }
+            return writer;
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            flushWriter();
+            super.flushBuffer();
+        }
+
+        private void flushWriter() {
+            if (writer != null) {
+                writer.flush();
+            }
+        }
+
+        private long bytesWritten() {
+            return outputStream == null ? 0 : outputStream.bytesWritten;
+        }
+    }
+
+    private static final class CountingOutputStream extends ServletOutputStream {
+        private final ServletOutputStream delegate;
+        private long bytesWritten;
+
+        private CountingOutputStream(ServletOutputStream delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            delegate.write(b);
+            bytesWritten++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            delegate.write(b, off, len);
+            bytesWritten += len;
+        }
+
+        @Override
+        public void flush() throws IOException {
+            delegate.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+
+        @Override
+        public boolean isReady() {
+            return delegate.isReady();
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            delegate.setWriteListener(writeListener);
+        }
+    }
+}
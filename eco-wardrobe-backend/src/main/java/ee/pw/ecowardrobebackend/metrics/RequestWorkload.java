@@ -0,0 +1,45 @@
+package ee.pw.ecowardrobebackend.metrics;
+
+/**
+ * Database work done on behalf of the current request. Bound to the request thread by
+ * {@link RequestMetricsFilter} and incremented by {@link WorkloadCountingInterceptor}; work done
+ * outside a request, or on another thread, is not counted.
+ */
+final class RequestWorkload {
+    private static final ThreadLocal<RequestWorkload> CURRENT = new ThreadLocal<>();
+
+    private int statements;
+    private int entityLoads;
+
+    static RequestWorkload begin() {
+        final RequestWorkload workload = new RequestWorkload();
+        CURRENT.set(workload);
+        return workload;
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+
+    static void statementPrepared() {
+        final RequestWorkload workload = CURRENT.get();
+        if (workload != null) {
+            workload.statements++;
+        }
+    }
+
+    static void entityLoaded() {
+        final RequestWorkload workload = CURRENT.get();
+        if (workload != null) {
+            workload.entityLoads++;
+        }
+    }
+
+    int statements() {
+        return statements;
+    }
+
+    int entityLoads() {
+        return entityLoads;
+    }
+}
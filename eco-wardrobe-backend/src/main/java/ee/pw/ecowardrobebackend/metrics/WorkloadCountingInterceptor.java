@@ -0,0 +1,23 @@
+package ee.pw.ecowardrobebackend.metrics;
+
+import org.hibernate.Interceptor;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.hibernate.type.Type;
+
+/**
+ * Counts the SQL statements Hibernate prepares and the entities it loads for the current request.
+ * Registered once for the session factory, so it must stay stateless.
+ */
+class WorkloadCountingInterceptor implements Interceptor, StatementInspector {
+    @Override
+    public String inspect(String sql) {
+        RequestWorkload.statementPrepared();
+        return sql;
+    }
+
+    @Override
+    public boolean onLoad(Object entity, Object id, Object[] state, String[] propertyNames, Type[] types) {
+        RequestWorkload.entityLoaded();
+        return false;
+    }
+}
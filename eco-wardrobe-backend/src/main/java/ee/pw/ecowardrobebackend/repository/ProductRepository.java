@@ -1,11 +1,108 @@
 package ee.pw.ecowardrobebackend.repository;
 
+import ee.pw.ecowardrobebackend.dto.analytics.HistogramBin;
+import ee.pw.ecowardrobebackend.dto.analytics.WardrobeTotals;
+import ee.pw.ecowardrobebackend.dto.product.OwnedProduct;
+import ee.pw.ecowardrobebackend.dto.product.WardrobeItemSummaryDTO;
 import ee.pw.ecowardrobebackend.entity.product.Product;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
 public interface ProductRepository extends JpaRepository<Product, UUID> {
+    Optional<Product> findByProductInformationGtin(String gtin);
+
+    List<Product> findAllByProductInformationGtinIn(Collection<String> gtins);
+
+    @Query("select p from User u join u.products p where u.id = :userId")
+    List<Product> findAllByOwnerId(UUID userId);
+
+    @Query("select p.id from User u join u.products p where u.id = :userId")
+    List<UUID> findIdsByOwnerId(UUID userId);
+
+    /**
+     * Products of every wardrobe the user saved, grouped by save in the order they were saved. A
+     * saved wardrobe without products yields one row with a null product.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "64"))
+    @Query("""
+            select new ee.pw.ecowardrobebackend.dto.product.OwnedProduct(o.id, p)
+            from User u
+            join u.savedUserWardrobes s
+            join s.userWardrobeOwner o
+            left join o.products p
+            where u.id = :userId
+            order by s.savedAt, s.id
+            """)
+    Stream<OwnedProduct> streamAllSavedByUserId(UUID userId);
+
+    @Query("""
+            select p from User u join u.products p
+            where u.id = :userId and p.ecoScore >= :minEcoScore
+            order by p.ecoScore desc
+            """)
+    List<Product> findAllByOwnerIdWithEcoScoreAtLeast(UUID userId, int minEcoScore);
+
+    @Query("""
+            select new ee.pw.ecowardrobebackend.dto.product.WardrobeItemSummaryDTO(
+                p.id, p.productInformation.productName, p.productInformation.brand,
+                p.productInformation.category, p.ecoScore, p.imageHash, l.addedAt
+            )
+            from WardrobeLink l join Product p on p.id = l.productId
+            where l.userId = :userId
+            order by l.addedAt desc, l.productId desc
+            """)
+    List<WardrobeItemSummaryDTO> findSummariesByOwnerId(UUID userId, Limit limit);
+
+    @Query("""
+            select new ee.pw.ecowardrobebackend.dto.product.WardrobeItemSummaryDTO(
+                p.id, p.productInformation.productName, p.productInformation.brand,
+                p.productInformation.category, p.ecoScore, p.imageHash, l.addedAt
+            )
+            from WardrobeLink l join Product p on p.id = l.productId
+            where l.userId = :userId
+              and (l.addedAt < :addedAt or (l.addedAt = :addedAt and l.productId < :id))
+            order by l.addedAt desc, l.productId desc
+            """)
+    List<WardrobeItemSummaryDTO> findSummariesByOwnerIdAfter(UUID userId, LocalDateTime addedAt, UUID id, Limit limit);
+
+    @Query("""
+            select new ee.pw.ecowardrobebackend.dto.analytics.WardrobeTotals(
+                count(p),
+                coalesce(sum(p.productEnvironmentImpact.carbonFootprintKgCO2e), 0.0),
+                coalesce(sum(p.productEnvironmentImpact.waterUsageLiters), 0.0),
+                coalesce(sum(p.productEnvironmentImpact.energyKwh), 0.0)
+            )
+            from Product p
+            where p.id in :productIds
+            """)
+    WardrobeTotals sumTotalsByIdIn(Collection<UUID> productIds);
+
+    @Query("""
+            select new ee.pw.ecowardrobebackend.dto.analytics.HistogramBin(p.productInformation.category, count(p))
+            from Product p
+            where p.id in :productIds and p.productInformation.category is not null
+            group by p.productInformation.category
+            """)
+    List<HistogramBin> countCategoriesByIdIn(Collection<UUID> productIds);
+
+    @Query("""
+            select new ee.pw.ecowardrobebackend.dto.analytics.HistogramBin(m.materialName, sum(m.compositionPercentage))
+            from Product p join p.materialCompositions m
+            where p.id in :productIds and m.materialName is not null
+            group by m.materialName
+            """)
+    List<HistogramBin> sumMaterialPercentagesByIdIn(Collection<UUID> productIds);
 }
@@ -1,8 +1,13 @@
 package ee.pw.ecowardrobebackend.repository;
 
+import ee.pw.ecowardrobebackend.dto.user.WardrobeVersion;
 import ee.pw.ecowardrobebackend.entity.user.User;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -11,5 +16,65 @@ import java.util.UUID;
 @Repository
 public interface UserRepository extends JpaRepository<User, UUID> {
     Optional<User> findByEmail(String email);
+
+    @Query("""
+            select u from User u
+            left join fetch u.preference.allergies
+            left join fetch u.preference.preferredMaterials
+            where u.email = :email
+            """)
+    Optional<User> findWithPreferenceByEmail(String email);
+
+    @Transactional
+    @Modifying
+    @Query("update User u set u.password = :password where u.id = :id")
+    void updatePassword(UUID id, String password);
+
+    @Query("""
+            select u from User u
+            left join fetch u.preference.allergies
+            left join fetch u.preference.preferredMaterials
+            where u.id = :id
+            """)
+    Optional<User> findWithPreferenceById(UUID id);
+
+    @Query("""
+            select distinct o from User u
+            join u.savedUserWardrobes s
+            join s.userWardrobeOwner o
+            left join fetch o.preference.allergies
+            left join fetch o.preference.preferredMaterials
+            where u.id = :userId
+            """)
+    List<User> findSavedWardrobeOwnersWithPreference(UUID userId);
+
+    @EntityGraph(attributePaths = "products")
     List<User> findByIsInfluencer(boolean isInfluencer);
-}
\ No newline at end of file
+
+    @Query("select u.id from User u")
+    List<UUID> findAllIds();
+
+    @Query("select u.wardrobeVersion from User u where u.id = :id")
+    Optional<Long> findWardrobeVersionById(UUID id);
+
+    /**
+     * One row per saved wardrobe, or a single row of nulls when the user saved none; no rows means
+     * the user does not exist.
+     */
+    @Query("""
+            select new ee.pw.ecowardrobebackend.dto.user.WardrobeVersion(o.id, o.wardrobeVersion)
+            from User u
+            left join u.savedUserWardrobes s
+            left join s.userWardrobeOwner o
+            where u.id = :userId
+            """)
+    List<WardrobeVersion> findSavedWardrobeVersions(UUID userId);
+
+    @Transactional
+    @Modifying
+    @Query("update User u set u.wardrobeVersion = u.wardrobeVersion + 1 where u.id = :id")
+    void incrementWardrobeVersion(UUID id);
+
+    @Query("select u.isInfluencer from User u where u.id = :id")
+    Optional<Boolean> findInfluencerFlagById(UUID id);
+}
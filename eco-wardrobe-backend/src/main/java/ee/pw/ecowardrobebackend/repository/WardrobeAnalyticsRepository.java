@@ -0,0 +1,22 @@
+package ee.pw.ecowardrobebackend.repository;
+
+import ee.pw.ecowardrobebackend.entity.analytics.WardrobeAnalytics;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface WardrobeAnalyticsRepository extends JpaRepository<WardrobeAnalytics, UUID> {
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select a from WardrobeAnalytics a where a.userId = :userId")
+    Optional<WardrobeAnalytics> findForUpdate(UUID userId);
+
+    @Query("select a.userId from WardrobeAnalytics a where a.rebuiltAt is null")
+    List<UUID> findUncomputedUserIds();
+}
@@ -0,0 +1,18 @@
+package ee.pw.ecowardrobebackend.repository;
+
+import ee.pw.ecowardrobebackend.entity.wardrobe.WardrobeChange;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface WardrobeChangeRepository extends JpaRepository<WardrobeChange, Long> {
+    List<WardrobeChange> findByUserIdAndIdGreaterThanOrderById(UUID userId, long since);
+
+    @Query("select max(c.id) from WardrobeChange c where c.userId = :userId")
+    Optional<Long> findLatestIdByUserId(UUID userId);
+}
@@ -10,6 +10,6 @@ import java.util.UUID;
 
 @Repository
 public interface WardrobeShareRepository extends JpaRepository<WardrobeShare, UUID> {
-    @Query("select wrd from WardrobeShare wrd where wrd.shareCode = :shareCode")
-    Optional<WardrobeShare> findByShareCode(String shareCode);
+    @Query("select wrd.associatedUser.id from WardrobeShare wrd where wrd.shareCode = :shareCode")
+    Optional<UUID> findOwnerIdByShareCode(UUID shareCode);
 }
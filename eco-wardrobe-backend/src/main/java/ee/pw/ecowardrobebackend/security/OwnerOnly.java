@@ -0,0 +1,19 @@
+package ee.pw.ecowardrobebackend.security;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a handler that acts on behalf of the user named by a path variable. A request carrying a
+ * session token may only use it for its own user id.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface OwnerOnly {
+    /**
+     * The path variable holding the user id.
+     */
+    String value();
+}
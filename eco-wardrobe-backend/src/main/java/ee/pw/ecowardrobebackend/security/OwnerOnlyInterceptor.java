@@ -0,0 +1,56 @@
+package ee.pw.ecowardrobebackend.security;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Map;
+
+/**
+ * Enforces {@link OwnerOnly}. Requests without a token are let through unless sessions are
+ * required, so clients that predate tokens keep working until enforcement is switched on. A token
+ * that failed verification is always rejected. Rejections are thrown rather than written, so they
+ * get the same error body and CORS headers as any other error.
+ */
+class OwnerOnlyInterceptor implements HandlerInterceptor {
+    private final boolean sessionRequired;
+
+    OwnerOnlyInterceptor(boolean sessionRequired) {
+        this.sessionRequired = sessionRequired;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod handlerMethod)) {
+            return true;
+        }
+        final OwnerOnly ownerOnly = handlerMethod.getMethodAnnotation(OwnerOnly.class);
+        if (ownerOnly == null) {
+            return true;
+        }
+
+        if (Boolean.TRUE.equals(request.getAttribute(SessionTokenFilter.INVALID_TOKEN_ATTRIBUTE))) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Session token is invalid or expired");
+        }
+        final SessionToken session = (SessionToken) request.getAttribute(SessionToken.ATTRIBUTE);
+        if (session == null) {
+            if (sessionRequired) {
+                throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Session token required");
+            }
+            return true;
+        }
+
+        @SuppressWarnings("unchecked")
+        final Map<String, String> pathVariables =
+                (Map<String, String>) request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        final String ownerId = pathVariables == null ? null : pathVariables.get(ownerOnly.value());
+        if (!session.userId().toString().equalsIgnoreCase(ownerId)) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Session belongs to another user");
+        }
+        return true;
+    }
+}
@@ -0,0 +1,20 @@
+package ee.pw.ecowardrobebackend.security;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+class SessionConfig implements WebMvcConfigurer {
+    private final boolean sessionRequired;
+
+    SessionConfig(@Value("${app.security.session.required:false}") boolean sessionRequired) {
+        this.sessionRequired = sessionRequired;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new OwnerOnlyInterceptor(sessionRequired));
+    }
+}
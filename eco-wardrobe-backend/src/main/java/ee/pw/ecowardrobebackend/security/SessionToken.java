@@ -0,0 +1,31 @@
+package ee.pw.ecowardrobebackend.security;
+
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * A verified session: who sent the request and whether they are an influencer, taken from the
+ * signed token rather than the database.
+ */
+public record SessionToken(UUID userId, boolean influencer, Instant expiresAt) {
+    public static final String ATTRIBUTE = SessionToken.class.getName();
+
+    /**
+     * The session of the request being handled on this thread, if it carried a valid token.
+     */
+    public static Optional<SessionToken> current() {
+        final RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable((SessionToken) attributes.getAttribute(ATTRIBUTE, RequestAttributes.SCOPE_REQUEST));
+    }
+
+    public static boolean isAuthenticatedAs(UUID userId) {
+        return current().filter(session -> session.userId().equals(userId)).isPresent();
+    }
+}
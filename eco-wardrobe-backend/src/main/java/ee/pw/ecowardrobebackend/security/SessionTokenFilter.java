@@ -0,0 +1,47 @@
+package ee.pw.ecowardrobebackend.security;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Optional;
+
+/**
+ * Verifies the bearer token of each request and exposes it as {@link SessionToken#current()}.
+ * Verification is a signature check only; the database is not consulted. A request without a
+ * valid token passes through anonymously. A forged or expired token is only marked here and
+ * rejected by {@link OwnerOnlyInterceptor}, so endpoints open to everyone ignore it and the 401
+ * goes through MVC's CORS handling and the regular error response.
+ */
+@Component
+@RequiredArgsConstructor
+class SessionTokenFilter extends OncePerRequestFilter {
+    static final String INVALID_TOKEN_ATTRIBUTE = SessionTokenFilter.class.getName() + ".invalidToken";
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final SessionTokenService sessionTokenService;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        final String authorization = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (authorization == null || !authorization.startsWith(BEARER_PREFIX)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        final Optional<SessionToken> session = sessionTokenService.verify(authorization.substring(BEARER_PREFIX.length()));
+        if (session.isPresent()) {
+            request.setAttribute(SessionToken.ATTRIBUTE, session.get());
+        } else {
+            request.setAttribute(INVALID_TOKEN_ATTRIBUTE, Boolean.TRUE);
+        }
+        filterChain.doFilter(request, response);
+    }
+}
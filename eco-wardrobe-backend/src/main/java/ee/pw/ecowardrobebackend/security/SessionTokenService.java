@@ -0,0 +1,119 @@
+package ee.pw.ecowardrobebackend.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Issues and verifies session tokens of the form {@code payload.signature}, both base64url. The
+ * payload is the user id, the influencer flag and the expiry; the signature is an HMAC-SHA256 of
+ * the payload under a key that never leaves the server.
+ */
+@Slf4j
+@Service
+public class SessionTokenService {
+    private static final String ALGORITHM = "HmacSHA256";
+    // HMAC-SHA256 keys shorter than its 32-byte output weaken the signature.
+    private static final int MIN_KEY_LENGTH = 32;
+    private static final int PAYLOAD_LENGTH = Long.BYTES * 2 + 1 + Long.BYTES;
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final SecretKeySpec key;
+    private final Duration timeToLive;
+    private final Clock clock;
+
+    public SessionTokenService(
+            @Value("${app.security.session.key:}") String key,
+            @Value("${app.security.session.ttl:12h}") Duration timeToLive
+    ) {
+        this(key, timeToLive, Clock.systemUTC());
+    }
+
+    SessionTokenService(String key, Duration timeToLive, Clock clock) {
+        this.key = new SecretKeySpec(key.isBlank() ? randomKey() : decodeKey(key), ALGORITHM);
+        this.timeToLive = timeToLive;
+        this.clock = clock;
+    }
+
+    public String issue(UUID userId, boolean influencer) {
+        final ByteBuffer payload = ByteBuffer.allocate(PAYLOAD_LENGTH)
+                .putLong(userId.getMostSignificantBits())
+                .putLong(userId.getLeastSignificantBits())
+                .put((byte) (influencer ? 1 : 0))
+                .putLong(clock.instant().plus(timeToLive).getEpochSecond());
+        final byte[] payloadBytes = payload.array();
+        return ENCODER.encodeToString(payloadBytes) + "." + ENCODER.encodeToString(sign(payloadBytes));
+    }
+
+    /**
+     * Returns the session if the token is well formed, correctly signed and not expired.
+     */
+    public Optional<SessionToken> verify(String token) {
+        final int separator = token.indexOf('.');
+        if (separator < 0) {
+            return Optional.empty();
+        }
+        final byte[] payload;
+        final byte[] signature;
+        try {
+            payload = DECODER.decode(token.substring(0, separator));
+            signature = DECODER.decode(token.substring(separator + 1));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+        if (payload.length != PAYLOAD_LENGTH || !MessageDigest.isEqual(sign(payload), signature)) {
+            return Optional.empty();
+        }
+
+        final ByteBuffer fields = ByteBuffer.wrap(payload);
+        final UUID userId = new UUID(fields.getLong(), fields.getLong());
+        final boolean influencer = fields.get() == 1;
+        final Instant expiresAt = Instant.ofEpochSecond(fields.getLong());
+        if (!expiresAt.isAfter(clock.instant())) {
+            return Optional.empty();
+        }
+        return Optional.of(new SessionToken(userId, influencer, expiresAt));
+    }
+
+    private byte[] sign(byte[] payload) {
+        try {
+            // Mac instances are not thread-safe and cheap to create next to the HMAC itself.
+            final Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac.doFinal(payload);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Cannot sign session token", e);
+        }
+    }
+
+    private static byte[] decodeKey(String key) {
+        final byte[] keyBytes = Base64.getDecoder().decode(key);
+        if (keyBytes.length < MIN_KEY_LENGTH) {
+            throw new IllegalArgumentException(
+                    "app.security.session.key must decode to at least " + MIN_KEY_LENGTH + " bytes, but has " + keyBytes.length
+            );
+        }
+        return keyBytes;
+    }
+
+    private static byte[] randomKey() {
+        log.warn("app.security.session.key is not set; using a random key, so sessions end when the application restarts");
+        final byte[] key = new byte[MIN_KEY_LENGTH];
+        new SecureRandom().nextBytes(key);
+        return key;
+    }
+}
@@ -0,0 +1,34 @@
+package ee.pw.ecowardrobebackend.service;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+final class AsyncCaches {
+    private AsyncCaches() {
+    }
+
+    /**
+     * Returns the cached value, or loads it on the calling thread while concurrent callers for the
+     * same key wait for that one load. Only a placeholder future is installed under the cache's map
+     * lock, so a virtual thread blocking on JDBC in the loader never pins its carrier. If the loader
+     * throws anything, including an {@link Error}, the waiters fail with it and the placeholder is
+     * removed, so the next call loads again instead of waiting forever.
+     */
+    static <K, V> V getOrLoad(AsyncCache<K, V> cache, K key, Supplier<V> loader) {
+        final CompletableFuture<V> pending = new CompletableFuture<>();
+        final CompletableFuture<V> value = cache.get(key, (ignored, executor) -> pending);
+        if (value != pending) {
+            return value.join();
+        }
+        try {
+            pending.complete(loader.get());
+        } catch (Throwable e) {
+            pending.completeExceptionally(e);
+            cache.asMap().remove(key, pending);
+            throw e;
+        }
+        return pending.join();
+    }
+}
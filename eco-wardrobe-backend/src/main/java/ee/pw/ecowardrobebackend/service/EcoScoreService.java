@@ -0,0 +1,233 @@
+package ee.pw.ecowardrobebackend.service;
+
+import ee.pw.ecowardrobebackend.entity.product.DurabilityAndCare;
+import ee.pw.ecowardrobebackend.entity.product.EndOfLife;
+import ee.pw.ecowardrobebackend.entity.product.MaterialComposition;
+import ee.pw.ecowardrobebackend.entity.product.Product;
+import ee.pw.ecowardrobebackend.entity.product.ProductEnvironmentImpact;
+import ee.pw.ecowardrobebackend.entity.product.ProductInformation;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Server-side port of the Eco Score algorithm from the frontend (services/ecoScore.ts,
+ * described in ECO_SCORE_ALGORITHM.md). Both implementations must give the same result.
+ */
+@Service
+public class EcoScoreService {
+    private static final double BASE_SCORE = 50;
+
+    private static final double CARBON_FOOTPRINT_WEIGHT = 1.0;
+    private static final double RECYCLED_CONTENT_WEIGHT = 1.2;
+    private static final double RECYCLABILITY_WEIGHT = 1.3;
+    private static final double HAZARDOUS_SUBSTANCES_WEIGHT = 1.5;
+    private static final double REPAIRABILITY_WEIGHT = 0.8;
+    private static final double CERTIFICATIONS_WEIGHT = 0.7;
+    private static final double DURABILITY_WEIGHT = 0.6;
+    private static final double NATURAL_MATERIALS_WEIGHT = 1.1;
+
+    private static final double DEFAULT_CARBON_THRESHOLD = 5.0;
+    private static final Map<String, Double> CARBON_THRESHOLDS = Map.of(
+            "koszulki", 3.0,
+            "skarpety", 2.0,
+            "spodnie", 5.0,
+            "bluzy", 6.0,
+            "inne", 5.0
+    );
+
+    private static final List<String> NATURAL_KEYWORDS = List.of(
+            "cotton", "bawełn", "wool", "wełn", "silk", "jedwab", "linen", "len", "hemp", "konop",
+            "bamboo", "bambus", "alpaca", "alpaka", "merino", "leather", "skór", "cashmere", "kaszmir",
+            "tencel", "lyocell", "viscose", "wiskoz", "modal", "rayon", "jute", "juta", "ramie"
+    );
+    private static final List<String> SYNTHETIC_KEYWORDS = List.of(
+            "polyester", "poliester", "nylon", "poliamid", "elastan", "spandex", "lycra",
+            "acrylic", "akryl", "polypropylene", "polipropylen"
+    );
+
+    public int calculate(Product product) {
+        final ProductEnvironmentImpact impact = product.getProductEnvironmentImpact();
+        final double carbonFootprint = impact == null ? 0 : valueOf(impact.getCarbonFootprintKgCO2e());
+        final double recycledContent = impact == null ? 0 : valueOf(impact.getRecycledContentPercentage());
+        final boolean hasHazardousSubstances = impact != null
+                && impact.getHazardousSubstances() != null
+                && !impact.getHazardousSubstances().isEmpty();
+
+        final EndOfLife endOfLife = product.getEndOfLife();
+        final double recyclability = endOfLife == null ? 0 : valueOf(endOfLife.getRecyclabilityPercentage());
+
+        final DurabilityAndCare durabilityAndCare = product.getDurabilityAndCare();
+        final int lifetimeCycles = durabilityAndCare == null || durabilityAndCare.getExpectedLifetimeCycles() == null
+                ? 0
+                : durabilityAndCare.getExpectedLifetimeCycles();
+        final String repairDifficulty = durabilityAndCare == null || durabilityAndCare.getRepairability() == null
+                ? null
+                : durabilityAndCare.getRepairability().getRepairDifficulty();
+
+        final List<MaterialComposition> materials = product.getMaterialCompositions() == null
+                ? List.of()
+                : product.getMaterialCompositions();
+
+        double score = BASE_SCORE;
+        score += carbonFootprintScore(carbonFootprint, category(product.getProductInformation())) * CARBON_FOOTPRINT_WEIGHT;
+        score += recycledContentScore(recycledContent, materials) * RECYCLED_CONTENT_WEIGHT;
+        score += recyclabilityScore(recyclability) * RECYCLABILITY_WEIGHT;
+        score += recyclingSynergyBonus(recyclability, recycledContent);
+        if (hasHazardousSubstances) {
+            score -= 20 * HAZARDOUS_SUBSTANCES_WEIGHT;
+        }
+        score += repairabilityScore(repairDifficulty) * REPAIRABILITY_WEIGHT;
+        score += durabilityScore(lifetimeCycles) * DURABILITY_WEIGHT;
+        score += naturalMaterialsScore(materials) * NATURAL_MATERIALS_WEIGHT;
+        if (materials.stream().anyMatch(material -> !certificationsOf(material).isEmpty())) {
+            score += 10 * CERTIFICATIONS_WEIGHT;
+        }
+
+        return (int) Math.max(0, Math.min(100, Math.round(score)));
+    }
+
+    private static String category(ProductInformation productInformation) {
+        final String category = productInformation == null || productInformation.getCategory() == null
+                ? ""
+                : productInformation.getCategory().toLowerCase(Locale.ROOT);
+        if (category.contains("t-shirt") || category.contains("koszulka")) return "koszulki";
+        if (category.contains("pants") || category.contains("spodnie")) return "spodnie";
+        if (category.contains("hoodie") || category.contains("bluza")) return "bluzy";
+        if (category.contains("sock") || category.contains("skarpet")) return "skarpety";
+        return "inne";
+    }
+
+    private static int carbonFootprintScore(double carbonFootprint, String category) {
+        final double threshold = CARBON_THRESHOLDS.getOrDefault(category, DEFAULT_CARBON_THRESHOLD);
+        if (carbonFootprint <= threshold * 0.5) return 10;
+        if (carbonFootprint <= threshold) return 5;
+        if (carbonFootprint <= threshold * 1.5) return 0;
+        if (carbonFootprint <= threshold * 2) return -10;
+        if (carbonFootprint <= threshold * 3) return -20;
+        return -30;
+    }
+
+    private static int recycledContentScore(double declaredRecycledContent, List<MaterialComposition> materials) {
+        int actualRecycledPercentage = 0;
+        int certifiedRecycledPercentage = 0;
+        boolean hasCertifiedRecycled = false;
+        for (MaterialComposition material : materials) {
+            final boolean certifiedRecycled = certificationsOf(material).stream().anyMatch(EcoScoreService::isRecycledCertificate);
+            final String materialName = lowerCase(material.getMaterialName());
+            if (certifiedRecycled || materialName.contains("recykling") || materialName.contains("recycled")) {
+                actualRecycledPercentage += material.getCompositionPercentage();
+            }
+            if (certifiedRecycled) {
+                hasCertifiedRecycled = true;
+                certifiedRecycledPercentage += material.getCompositionPercentage();
+            }
+        }
+
+        final double effectiveRecycledPercentage = Math.max(declaredRecycledContent, actualRecycledPercentage);
+        int score;
+        if (effectiveRecycledPercentage >= 80) score = 15;
+        else if (effectiveRecycledPercentage >= 60) score = 12;
+        else if (effectiveRecycledPercentage >= 40) score = 8;
+        else if (effectiveRecycledPercentage >= 20) score = 4;
+        else if (effectiveRecycledPercentage > 0) score = 2;
+        else score = -10;
+
+        if (hasCertifiedRecycled && certifiedRecycledPercentage >= 50) {
+            score += 5;
+        }
+        return score;
+    }
+
+    private static int recyclabilityScore(double recyclability) {
+        if (recyclability >= 90) return 15;
+        if (recyclability >= 70) return 10;
+        if (recyclability >= 50) return 5;
+        if (recyclability >= 30) return -5;
+        if (recyclability >= 10) return -15;
+        return -25;
+    }
+
+    private static int recyclingSynergyBonus(double recyclability, double recycledContent) {
+        if (recyclability >= 70 && recycledContent >= 50) return 8;
+        if (recyclability >= 50 && recycledContent >= 30) return 4;
+        return 0;
+    }
+
+    private static int repairabilityScore(String repairDifficulty) {
+        if ("high".equals(repairDifficulty)) return -10;
+        if ("low".equals(repairDifficulty)) return 5;
+        return 0;
+    }
+
+    private static int durabilityScore(int lifetimeCycles) {
+        if (lifetimeCycles >= 100) return 8;
+        if (lifetimeCycles >= 70) return 5;
+        if (lifetimeCycles >= 50) return 2;
+        if (lifetimeCycles >= 30) return 0;
+        if (lifetimeCycles >= 15) return -5;
+        return -10;
+    }
+
+    private static int naturalMaterialsScore(List<MaterialComposition> materials) {
+        int naturalPercentage = 0;
+        int organicPercentage = 0;
+        for (MaterialComposition material : materials) {
+            final String materialName = lowerCase(material.getMaterialName());
+            if (!isNaturalMaterial(materialName)) {
+                continue;
+            }
+            naturalPercentage += material.getCompositionPercentage();
+            final boolean organic = certificationsOf(material).stream().anyMatch(EcoScoreService::isOrganicCertificate)
+                    || materialName.contains("organiczn")
+                    || materialName.contains("organic");
+            if (organic) {
+                organicPercentage += material.getCompositionPercentage();
+            }
+        }
+
+        int score = 0;
+        if (naturalPercentage >= 95) score += 15;
+        else if (naturalPercentage >= 80) score += 12;
+        else if (naturalPercentage >= 60) score += 8;
+        else if (naturalPercentage >= 40) score += 4;
+        else if (naturalPercentage >= 20) score += 1;
+        else if (naturalPercentage < 10) score -= 8;
+
+        if (organicPercentage >= 50) score += 5;
+        else if (organicPercentage >= 30) score += 3;
+        else if (organicPercentage >= 10) score += 1;
+        return score;
+    }
+
+    private static boolean isNaturalMaterial(String materialName) {
+        if (SYNTHETIC_KEYWORDS.stream().anyMatch(materialName::contains)) {
+            return false;
+        }
+        return NATURAL_KEYWORDS.stream().anyMatch(materialName::contains);
+    }
+
+    private static boolean isRecycledCertificate(String certification) {
+        final String certificate = lowerCase(certification);
+        return certificate.contains("recycled") || certificate.contains("rpet") || certificate.contains("grs");
+    }
+
+    private static boolean isOrganicCertificate(String certification) {
+        final String certificate = lowerCase(certification);
+        return certificate.contains("organic") || certificate.contains("gots") || certificate.contains("organiczn");
+    }
+
+    private static List<String> certificationsOf(MaterialComposition material) {
+        return material.getCertifications() == null ? List.of() : material.getCertifications();
+    }
+
+    private static String lowerCase(String value) {
+        return value == null ? "" : value.toLowerCase(Locale.ROOT);
+    }
+
+    private static double valueOf(Double value) {
+        return value == null ? 0 : value;
+    }
+}
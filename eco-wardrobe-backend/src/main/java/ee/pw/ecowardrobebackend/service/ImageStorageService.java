@@ -0,0 +1,140 @@
+package ee.pw.ecowardrobebackend.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * Content-addressed image store. Every blob lives on disk under its SHA-256 hex digest,
+ * so identical uploads share one file and a stored blob never changes. Thumbnails sit next
+ * to their original as {@code <hash>-<size>}.
+ */
+@Service
+public class ImageStorageService {
+    private static final Pattern HASH_PATTERN = Pattern.compile("[0-9a-f]{64}");
+
+    private final Path rootDirectory;
+
+    public ImageStorageService(@Value("${app.images.directory:data/images}") String rootDirectory) {
+        this.rootDirectory = Path.of(rootDirectory).toAbsolutePath().normalize();
+    }
+
+    public String store(byte[] content) {
+        if (content == null || content.length == 0) {
+            return null;
+        }
+
+        final String hash = sha256(content);
+        final Path target = resolve(hash);
+        if (Files.exists(target)) {
+            return hash;
+        }
+
+        try {
+            Files.createDirectories(target.getParent());
+            final Path temporary = Files.createTempFile(target.getParent(), hash, ".tmp");
+            Files.write(temporary, content);
+            moveIntoPlace(temporary, target);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not store image " + hash, e);
+        }
+        return hash;
+    }
+
+    public Optional<Path> find(String hash) {
+        if (hash == null || !HASH_PATTERN.matcher(hash).matches()) {
+            return Optional.empty();
+        }
+        final Path path = resolve(hash);
+        return Files.isRegularFile(path) ? Optional.of(path) : Optional.empty();
+    }
+
+    public Optional<Path> findThumbnail(String hash, int size) {
+        if (hash == null || !HASH_PATTERN.matcher(hash).matches()) {
+            return Optional.empty();
+        }
+        final Path path = resolveThumbnail(hash, size);
+        return Files.isRegularFile(path) ? Optional.of(path) : Optional.empty();
+    }
+
+    public void storeThumbnail(String hash, int size, byte[] content) {
+        final Path target = resolveThumbnail(hash, size);
+        try {
+            Files.createDirectories(target.getParent());
+            final Path temporary = Files.createTempFile(target.getParent(), hash, ".tmp");
+            Files.write(temporary, content);
+            moveIntoPlace(temporary, target);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not store " + size + "px thumbnail of image " + hash, e);
+        }
+    }
+
+    public MediaType detectMediaType(Path path) {
+        final byte[] header = new byte[12];
+        int read;
+        try (InputStream inputStream = Files.newInputStream(path)) {
+            read = inputStream.readNBytes(header, 0, header.length);
+        } catch (IOException e) {
+            return MediaType.APPLICATION_OCTET_STREAM;
+        }
+
+        if (read >= 3 && (header[0] & 0xFF) == 0xFF && (header[1] & 0xFF) == 0xD8 && (header[2] & 0xFF) == 0xFF) {
+            return MediaType.IMAGE_JPEG;
+        }
+        if (read >= 8 && (header[0] & 0xFF) == 0x89 && header[1] == 'P' && header[2] == 'N' && header[3] == 'G') {
+            return MediaType.IMAGE_PNG;
+        }
+        if (read >= 4 && header[0] == 'G' && header[1] == 'I' && header[2] == 'F' && header[3] == '8') {
+            return MediaType.IMAGE_GIF;
+        }
+        if (read >= 12 && header[0] == 'R' && header[1] == 'I' && header[2] == 'F' && header[3] == 'F'
+                && header[8] == 'W' && header[9] == 'E' && header[10] == 'B' && header[11] == 'P') {
+            return MediaType.parseMediaType("image/webp");
+        }
+        return MediaType.APPLICATION_OCTET_STREAM;
+    }
+
+    private Path resolve(String hash) {
+        return rootDirectory.resolve(hash.substring(0, 2)).resolve(hash);
+    }
+
+    private Path resolveThumbnail(String hash, int size) {
+        return rootDirectory.resolve(hash.substring(0, 2)).resolve(hash + "-" + size);
+    }
+
+    private void moveIntoPlace(Path temporary, Path target) throws IOException {
+        try {
+            Files.move(temporary, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (FileAlreadyExistsException e) {
+            Files.deleteIfExists(temporary);
+        } catch (AtomicMoveNotSupportedException e) {
+            try {
+                Files.move(temporary, target);
+            } catch (FileAlreadyExistsException alreadyStored) {
+                Files.deleteIfExists(temporary);
+            }
+        }
+    }
+
+    private static String sha256(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package ee.pw.ecowardrobebackend.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Generates fixed-size thumbnails for stored images. Each original is decoded once and scaled
+ * down step by step from the largest size to the smallest. Opaque images become JPEGs and
+ * images with transparency become PNGs.
+ */
+@Slf4j
+@Service
+public class ImageThumbnailService implements DisposableBean {
+    public static final List<Integer> SIZES = List.of(1024, 400, 128);
+
+    private static final long MAX_PIXELS = 50_000_000L;
+    private static final float JPEG_QUALITY = 0.82f;
+
+    private final ImageStorageService imageStorageService;
+    private final ThreadPoolExecutor executor;
+
+    public ImageThumbnailService(
+            ImageStorageService imageStorageService,
+            @Value("${app.images.thumbnails.threads:2}") int threads,
+            @Value("${app.images.thumbnails.queue-capacity:64}") int queueCapacity
+    ) {
+        this.imageStorageService = imageStorageService;
+        // The pool is the only place images are decoded, so at most `threads` decodes run at once
+        // no matter how many uploads arrive. When the queue is full the thumbnails are skipped;
+        // the original is served in their place.
+        this.executor = new ThreadPoolExecutor(
+                threads,
+                threads,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                Thread.ofPlatform().name("image-thumbnails-", 0).daemon(true).factory(),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    public void generateAsync(String hash) {
+        if (hash == null) {
+            return;
+        }
+        try {
+            executor.execute(() -> generate(hash));
+        } catch (RejectedExecutionException e) {
+            log.warn("Thumbnail queue is full; image {} is served without thumbnails", hash);
+        }
+    }
+
+    /**
+     * Returns the smallest thumbnail size that covers {@code requestedSize}, or empty when the
+     * request is larger than every thumbnail and the original should be served.
+     */
+    public static OptionalInt fit(int requestedSize) {
+        return SIZES.reversed().stream()
+                .mapToInt(Integer::intValue)
+                .filter(size -> size >= requestedSize)
+                .findFirst();
+    }
+
+    void generate(String hash) {
+        final Optional<Path> original = imageStorageService.find(hash);
+        if (original.isEmpty() || SIZES.stream().allMatch(size -> imageStorageService.findThumbnail(hash, size).isPresent())) {
+            return;
+        }
+
+        try {
+            final BufferedImage image = decode(original.get());
+            if (image == null) {
+                // Formats ImageIO cannot read (e.g. WebP) are only ever served as the original.
+                return;
+            }
+            final boolean transparent = image.getColorModel().hasAlpha();
+            BufferedImage source = image;
+            for (int size : SIZES) {
+                source = scale(source, size, transparent);
+                imageStorageService.storeThumbnail(hash, size, encode(source, transparent));
+            }
+        } catch (IOException | RuntimeException e) {
+            // ImageIO and Java2D throw runtime exceptions on corrupt or unusual input as well.
+            log.warn("Could not generate thumbnails for image {}", hash, e);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    private static BufferedImage decode(Path path) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(path.toFile())) {
+            final Iterator<ImageReader> readers = input == null ? null : ImageIO.getImageReaders(input);
+            if (readers == null || !readers.hasNext()) {
+                return null;
+            }
+            final ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                // Checked before decoding so a small upload cannot expand into gigabytes of pixels.
+                if ((long) reader.getWidth(0) * reader.getHeight(0) > MAX_PIXELS) {
+                    return null;
+                }
+                return reader.read(0);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private static BufferedImage scale(BufferedImage source, int size, boolean transparent) {
+        final int longestSide = Math.max(source.getWidth(), source.getHeight());
+        if (longestSide <= size) {
+            // Never upscale, but still redraw decoded originals (indexed, grayscale, CMYK...) into
+            // a pixel layout the encoders accept.
+            return source.getType() == pixelType(transparent)
+                    ? source
+                    : resize(source, source.getWidth(), source.getHeight(), transparent);
+        }
+        final double ratio = (double) size / longestSide;
+        final int width = Math.max(1, (int) Math.round(source.getWidth() * ratio));
+        final int height = Math.max(1, (int) Math.round(source.getHeight() * ratio));
+
+        // Halving first keeps bilinear filtering from skipping source pixels on large reductions.
+        BufferedImage current = source;
+        while (current.getWidth() / 2 >= width && current.getHeight() / 2 >= height) {
+            current = resize(current, current.getWidth() / 2, current.getHeight() / 2, transparent);
+        }
+        return resize(current, width, height, transparent);
+    }
+
+    private static BufferedImage resize(BufferedImage source, int width, int height, boolean transparent) {
+        final BufferedImage target = new BufferedImage(width, height, pixelType(transparent));
+        final Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+
+    private static int pixelType(boolean transparent) {
+        return transparent ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+    }
+
+    private static byte[] encode(BufferedImage image, boolean transparent) throws IOException {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        if (transparent) {
+            ImageIO.write(image, "png", output);
+            return output.toByteArray();
+        }
+
+        final ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        try (ImageOutputStream imageOutput = ImageIO.createImageOutputStream(output)) {
+            final ImageWriteParam parameters = writer.getDefaultWriteParam();
+            parameters.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            parameters.setCompressionQuality(JPEG_QUALITY);
+            writer.setOutput(imageOutput);
+            writer.write(null, new IIOImage(image, null, null), parameters);
+        } finally {
+            writer.dispose();
+        }
+        return output.toByteArray();
+    }
+}
@@ -0,0 +1,58 @@
+package ee.pw.ecowardrobebackend.service;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import ee.pw.ecowardrobebackend.event.WardrobeChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * Holds the influencer wardrobe feed as ready-to-send bytes together with its ETag, one entry per
+ * wire format. The feed is identical for every caller, so one entry serves all requests in that
+ * format until an influencer's wardrobe changes or the TTL passes.
+ */
+@Component
+public class InfluencerWardrobeCache {
+    private final AsyncCache<String, Feed> cache;
+
+    public InfluencerWardrobeCache(
+            MeterRegistry meterRegistry,
+            @Value("${app.cache.influencer-wardrobes.ttl:10m}") Duration timeToLive,
+            @Value("${app.cache.influencer-wardrobes.max-size:64MB}") DataSize maximumSize
+    ) {
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(timeToLive)
+                .maximumWeight(maximumSize.toBytes())
+                .<String, Feed>weigher((key, feed) -> feed.body().length)
+                .recordStats()
+                .buildAsync();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "influencerWardrobes");
+    }
+
+    public Feed getFeed(MediaType format, Supplier<Feed> loader) {
+        // Concurrent misses wait for a single load instead of each rebuilding the feed.
+        return AsyncCaches.getOrLoad(cache, format.toString(), loader);
+    }
+
+    public record Feed(byte[] body, String eTag) {
+    }
+
+    public void invalidate() {
+        cache.synchronous().invalidateAll();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    void onWardrobeChanged(WardrobeChangedEvent event) {
+        if (event.influencer()) {
+            invalidate();
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package ee.pw.ecowardrobebackend.service;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Holds catalog passports by GTIN as ready-to-send JSON. Unknown GTINs are cached as empty for a
+ * short time, so repeated scans of an unknown code do not reach the database either. Eviction is
+ * size-based W-TinyLFU, which keeps hot GTINs resident under a long tail of one-off scans.
+ */
+@Component
+public class PassportCache {
+    private final AsyncCache<String, Optional<byte[]>> cache;
+
+    public PassportCache(
+            MeterRegistry meterRegistry,
+            @Value("${app.cache.passports.ttl:1h}") Duration timeToLive,
+            @Value("${app.cache.passports.negative-ttl:30s}") Duration negativeTimeToLive,
+            @Value("${app.cache.passports.max-size:32MB}") DataSize maximumSize
+    ) {
+        this.cache = Caffeine.newBuilder()
+                .expireAfter(Expiry.<String, Optional<byte[]>>creating(
+                        (gtin, passport) -> passport.isPresent() ? timeToLive : negativeTimeToLive))
+                .maximumWeight(maximumSize.toBytes())
+                .<String, Optional<byte[]>>weigher((gtin, passport) -> passport.map(json -> json.length).orElse(1))
+                .recordStats()
+                .buildAsync();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "passports");
+    }
+
+    public Optional<byte[]> get(String gtin, Supplier<Optional<byte[]>> loader) {
+        // A burst of scans of the same GTIN waits for a single load.
+        return AsyncCaches.getOrLoad(cache, gtin, loader);
+    }
+
+    public void invalidate(String gtin) {
+        cache.synchronous().invalidate(gtin);
+    }
+}
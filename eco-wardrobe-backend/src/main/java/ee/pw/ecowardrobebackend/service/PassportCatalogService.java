@@ -0,0 +1,129 @@
+package ee.pw.ecowardrobebackend.service;
+
+import ee.pw.ecowardrobebackend.entity.product.Product;
+import ee.pw.ecowardrobebackend.entity.product.ProductInformation;
+import ee.pw.ecowardrobebackend.repository.ProductRepository;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * The canonical passport catalog. A passport with a GTIN is stored once and shared by every
+ * wardrobe that contains it; wardrobes only hold ownership rows in {@code users_products}.
+ * Passports without a GTIN cannot be matched and are always stored as new products.
+ */
+@Service
+@Timed(value = "app.service", histogram = true)
+public class PassportCatalogService {
+    private final ProductRepository productRepository;
+    private final PassportCache passportCache;
+    private final JsonMapper jsonMapper;
+    private final TransactionTemplate readTransaction;
+    private final TransactionTemplate insertTransaction;
+
+    public PassportCatalogService(
+            ProductRepository productRepository,
+            PassportCache passportCache,
+            JsonMapper jsonMapper,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.productRepository = productRepository;
+        this.passportCache = passportCache;
+        this.jsonMapper = jsonMapper;
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+        // Inserts commit on their own, so a losing insert can be rolled back and retried as a
+        // lookup without poisoning the caller's persistence context.
+        this.insertTransaction = new TransactionTemplate(transactionManager);
+        this.insertTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    public Optional<Product> findByGtin(String gtin) {
+        if (gtin == null) {
+            return Optional.empty();
+        }
+        return productRepository.findByProductInformationGtin(gtin);
+    }
+
+    /**
+     * Returns the passport as JSON in the same shape as the product create endpoint.
+     */
+    public Optional<byte[]> getPassportJson(String gtin) {
+        return passportCache.get(gtin, () -> readTransaction.execute(status -> findByGtin(gtin).map(jsonMapper::writeValueAsBytes)));
+    }
+
+    public Map<String, Product> findAllByGtin(Collection<String> gtins) {
+        final Map<String, Product> products = new HashMap<>();
+        if (gtins.isEmpty()) {
+            return products;
+        }
+        for (Product product : productRepository.findAllByProductInformationGtinIn(gtins)) {
+            products.put(product.getProductInformation().getGtin(), product);
+        }
+        return products;
+    }
+
+    /**
+     * Stores a new passport, or returns the canonical one if another request stored the same GTIN
+     * first. The unique GTIN index decides the race, so exactly one passport survives.
+     */
+    public Product insert(Product product) {
+        final Product storedProduct;
+        try {
+            storedProduct = insertTransaction.execute(status -> productRepository.saveAndFlush(product));
+        } catch (DataIntegrityViolationException e) {
+            return findByGtin(gtinOf(product)).orElseThrow(() -> e);
+        }
+        forgetUnknown(storedProduct);
+        return storedProduct;
+    }
+
+    /**
+     * Stores new passports in one batched transaction. If any GTIN was stored concurrently the
+     * batch is rolled back and each passport is mapped to a fresh product and resolved on its own,
+     * so no entity from the rolled-back session is saved again.
+     */
+    public <T> List<Product> insertAll(List<T> passports, Function<T, Product> toProduct) {
+        if (passports.isEmpty()) {
+            return List.of();
+        }
+        final List<Product> products = passports.stream().map(toProduct).toList();
+        try {
+            final List<Product> storedProducts = insertTransaction.execute(status -> productRepository.saveAllAndFlush(products));
+            storedProducts.forEach(this::forgetUnknown);
+            return storedProducts;
+        } catch (DataIntegrityViolationException e) {
+            return passports.stream().map(toProduct).map(this::insert).toList();
+        }
+    }
+
+    public static String gtinOf(ProductInformation productInformation) {
+        if (productInformation == null || productInformation.getGtin() == null || productInformation.getGtin().isBlank()) {
+            return null;
+        }
+        return productInformation.getGtin();
+    }
+
+    private void forgetUnknown(Product product) {
+        // A scan just before the insert may have cached this GTIN as unknown.
+        final String gtin = gtinOf(product);
+        if (gtin != null) {
+            passportCache.invalidate(gtin);
+        }
+    }
+
+    private static String gtinOf(Product product) {
+        return gtinOf(product.getProductInformation());
+    }
+}
@@ -0,0 +1,10 @@
+package ee.pw.ecowardrobebackend.service;
+
+/**
+ * Thrown when every password hashing thread is busy and the wait queue is full.
+ */
+public class PasswordHashingBusyException extends RuntimeException {
+    public PasswordHashingBusyException() {
+        super("Password hashing capacity exceeded");
+    }
+}
@@ -0,0 +1,136 @@
+package ee.pw.ecowardrobebackend.service;
+
+import ee.pw.ecowardrobebackend.dto.product.ProductSearchRequestDTO;
+import ee.pw.ecowardrobebackend.dto.product.ProductSearchResultDTO;
+import ee.pw.ecowardrobebackend.dto.product.ProductSummaryDTO;
+import ee.pw.ecowardrobebackend.entity.product.Product;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
+import org.hibernate.search.engine.search.common.BooleanOperator;
+import org.hibernate.search.engine.search.query.SearchResult;
+import org.hibernate.search.mapper.orm.Search;
+import org.hibernate.search.util.common.data.Range;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Full-text and faceted search over product passports. Hits are projected from the index into
+ * {@link ProductSummaryDTO}, so a search page never touches the database.
+ */
+@Service
+@Timed(value = "app.service", histogram = true)
+@RequiredArgsConstructor
+public class ProductSearchService {
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_FACET_TERMS = 20;
+
+    private static final String[] TEXT_FIELDS = {
+            "productInformation.productName",
+            "productInformation.brand",
+            "productInformation.model",
+            "materialCompositions.materialName",
+            "supplyChainTraceability.chain.supplier"
+    };
+    private static final String BRAND_FIELD = "productInformation.brand_keyword";
+    private static final String CATEGORY_FIELD = "productInformation.category";
+    private static final String MATERIAL_FIELD = "materialCompositions.materialName_keyword";
+    private static final String CERTIFICATION_FIELD = "materialCompositions.certifications";
+    private static final String STAGE_CERTIFICATE_FIELD = "supplyChainTraceability.chain.certificate";
+    private static final String COUNTRY_FIELD = "manufacturing.productionSites.country";
+
+    private static final AggregationKey<Map<String, Long>> BRAND_FACET = AggregationKey.of("brand");
+    private static final AggregationKey<Map<String, Long>> CATEGORY_FACET = AggregationKey.of("category");
+    private static final AggregationKey<Map<String, Long>> MATERIAL_FACET = AggregationKey.of("material");
+    private static final AggregationKey<Map<String, Long>> CERTIFICATION_FACET = AggregationKey.of("certification");
+    private static final AggregationKey<Map<String, Long>> COUNTRY_FACET = AggregationKey.of("country");
+    private static final AggregationKey<Map<Range<Integer>, Long>> ECO_SCORE_FACET = AggregationKey.of("ecoScore");
+
+    // Same bands as the frontend's Eco Score labels.
+    private static final Map<String, Range<Integer>> ECO_SCORE_BANDS = ecoScoreBands();
+
+    private final EntityManager entityManager;
+
+    @Transactional(readOnly = true)
+    public ProductSearchResultDTO search(ProductSearchRequestDTO request) {
+        final int pageSize = request.size() == null ? DEFAULT_PAGE_SIZE : Math.clamp(request.size(), 1, MAX_PAGE_SIZE);
+        final int page = request.page() == null ? 0 : Math.max(request.page(), 0);
+        final boolean textQuery = hasText(request.q());
+
+        final SearchResult<ProductSummaryDTO> result = Search.session(entityManager)
+                .search(Product.class)
+                .select(ProductSummaryDTO.class)
+                .where((f, root) -> {
+                    root.add(f.matchAll());
+                    if (textQuery) {
+                        root.add(f.simpleQueryString()
+                                .fields(TEXT_FIELDS)
+                                .matching(request.q())
+                                .defaultOperator(BooleanOperator.AND));
+                    }
+                    if (hasText(request.brand())) {
+                        root.add(f.match().field(BRAND_FIELD).matching(request.brand()));
+                    }
+                    if (hasText(request.category())) {
+                        root.add(f.match().field(CATEGORY_FIELD).matching(request.category()));
+                    }
+                    if (hasText(request.material())) {
+                        root.add(f.match().field(MATERIAL_FIELD).matching(request.material()));
+                    }
+                    if (hasText(request.certification())) {
+                        root.add(f.match()
+                                .fields(CERTIFICATION_FIELD, STAGE_CERTIFICATE_FIELD)
+                                .matching(request.certification()));
+                    }
+                    if (hasText(request.country())) {
+                        root.add(f.match().field(COUNTRY_FIELD).matching(request.country()));
+                    }
+                    if (request.minEcoScore() != null) {
+                        root.add(f.range().field("ecoScore").atLeast(request.minEcoScore()));
+                    }
+                })
+                .aggregation(BRAND_FACET, f -> f.terms().field(BRAND_FIELD, String.class).maxTermCount(MAX_FACET_TERMS))
+                .aggregation(CATEGORY_FACET, f -> f.terms().field(CATEGORY_FIELD, String.class).maxTermCount(MAX_FACET_TERMS))
+                .aggregation(MATERIAL_FACET, f -> f.terms().field(MATERIAL_FIELD, String.class).maxTermCount(MAX_FACET_TERMS))
+                .aggregation(CERTIFICATION_FACET, f -> f.terms().field(CERTIFICATION_FIELD, String.class).maxTermCount(MAX_FACET_TERMS))
+                .aggregation(COUNTRY_FACET, f -> f.terms().field(COUNTRY_FIELD, String.class).maxTermCount(MAX_FACET_TERMS))
+                .aggregation(ECO_SCORE_FACET, f -> f.range().field("ecoScore", Integer.class).ranges(ECO_SCORE_BANDS.values()))
+                .sort(f -> textQuery ? f.score() : f.field("createdAt").desc())
+                .fetch(page * pageSize, pageSize);
+
+        final Map<String, Map<String, Long>> facets = new LinkedHashMap<>();
+        facets.put("brand", result.aggregation(BRAND_FACET));
+        facets.put("category", result.aggregation(CATEGORY_FACET));
+        facets.put("material", result.aggregation(MATERIAL_FACET));
+        facets.put("certification", result.aggregation(CERTIFICATION_FACET));
+        facets.put("country", result.aggregation(COUNTRY_FACET));
+        facets.put("ecoScore", ecoScoreFacet(result.aggregation(ECO_SCORE_FACET)));
+
+        return new ProductSearchResultDTO(result.total().hitCount(), result.hits(), facets);
+    }
+
+    private static Map<String, Long> ecoScoreFacet(Map<Range<Integer>, Long> counts) {
+        final Map<String, Long> facet = new LinkedHashMap<>();
+        ECO_SCORE_BANDS.forEach((label, band) -> facet.put(label, counts.getOrDefault(band, 0L)));
+        return facet;
+    }
+
+    private static Map<String, Range<Integer>> ecoScoreBands() {
+        final Map<String, Range<Integer>> bands = new LinkedHashMap<>();
+        bands.put("excellent", Range.atLeast(80));
+        bands.put("good", Range.canonical(60, 80));
+        bands.put("medium", Range.canonical(40, 60));
+        bands.put("poor", Range.canonical(20, 40));
+        bands.put("bad", Range.lessThan(20));
+        return bands;
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.isBlank();
+    }
+}
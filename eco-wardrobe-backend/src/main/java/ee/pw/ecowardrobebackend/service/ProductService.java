@@ -1,25 +1,188 @@
 package ee.pw.ecowardrobebackend.service;
 
+import ee.pw.ecowardrobebackend.dto.product.BulkImportResultDTO;
 import ee.pw.ecowardrobebackend.dto.product.CreateProductDTO;
+import ee.pw.ecowardrobebackend.dto.product.WardrobeCursor;
+import ee.pw.ecowardrobebackend.dto.product.WardrobeItemSummaryDTO;
 import ee.pw.ecowardrobebackend.dto.product.WardrobeItemsDTO;
+import ee.pw.ecowardrobebackend.dto.product.WardrobePageDTO;
 import ee.pw.ecowardrobebackend.entity.product.Product;
-import ee.pw.ecowardrobebackend.entity.user.User;
+import ee.pw.ecowardrobebackend.event.WardrobeChangedEvent;
 import ee.pw.ecowardrobebackend.repository.ProductRepository;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionException;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.DatabindException;
+import tools.jackson.databind.ObjectMapper;
 
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
+@Slf4j
 @Service
+@Timed(value = "app.service", histogram = true)
 @RequiredArgsConstructor
 public class ProductService {
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int IMPORT_CHUNK_SIZE = 50;
+
     private final ProductRepository productRepository;
+    private final PassportCatalogService passportCatalogService;
     private final UserService userService;
+    private final ImageStorageService imageStorageService;
+    private final ImageThumbnailService imageThumbnailService;
+    private final EcoScoreService ecoScoreService;
+    private final WardrobeAnalyticsService wardrobeAnalyticsService;
+    private final WardrobeChangeService wardrobeChangeService;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final EntityManager entityManager;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
 
-    @Transactional
+    /**
+     * Adds a passport to the user's wardrobe. A GTIN already in the catalog costs one lookup and one
+     * ownership insert; only unknown passports are stored. The steps commit separately, so a request
+     * never holds more than one pooled connection at a time.
+     */
     public Product createProduct(CreateProductDTO createProductDTO, UUID userId) {
-        final User user = userService.getUserById(userId);
+        final boolean influencer = userService.isInfluencer(userId);
+        final Product product = passportCatalogService.findByGtin(PassportCatalogService.gtinOf(createProductDTO.productInformation()))
+                .orElseGet(() -> passportCatalogService.insert(toProduct(createProductDTO)));
+        appendToWardrobe(userId, List.of(product.getId()));
+        applicationEventPublisher.publishEvent(new WardrobeChangedEvent(userId, influencer));
+        return product;
+    }
+
+    /**
+     * Imports an array or a stream of passports into the user's wardrobe, read with the mapper of
+     * the request's format: a JSON array or NDJSON, or a CBOR or Smile array or sequence. Passports
+     * are read one at a time and processed in chunks of {@link #IMPORT_CHUNK_SIZE}: GTINs already in
+     * the catalog are resolved with one query per chunk and the remaining passports are stored in
+     * one JDBC batch. A passport that cannot be mapped is reported and skipped, and a chunk that
+     * cannot be stored is reported as failed item by item while the import continues with the next
+     * chunk. Malformed input stops the import at that index.
+     */
+    public BulkImportResultDTO importProducts(UUID userId, InputStream passports, ObjectMapper mapper) {
+        final boolean influencer = userService.isInfluencer(userId);
+        final List<BulkImportResultDTO.ItemResult> results = new ArrayList<>();
+        final List<PendingPassport> chunk = new ArrayList<>(IMPORT_CHUNK_SIZE);
+        int index = 0;
+
+        try {
+            final Iterator<CreateProductDTO> iterator = mapper.readerFor(CreateProductDTO.class).readValues(passports);
+            while (iterator.hasNext()) {
+                try {
+                    chunk.add(new PendingPassport(index, iterator.next()));
+                } catch (DatabindException e) {
+                    results.add(BulkImportResultDTO.ItemResult.failed(index, e.getOriginalMessage()));
+                }
+                index++;
+
+                if (chunk.size() == IMPORT_CHUNK_SIZE) {
+                    importChunk(userId, chunk, results);
+                    chunk.clear();
+                    // Imported passports are not read again here, so keep the persistence context small.
+                    entityManager.clear();
+                }
+            }
+        } catch (JacksonException e) {
+            results.add(BulkImportResultDTO.ItemResult.failed(index, e.getOriginalMessage()));
+        }
+        importChunk(userId, chunk, results);
+
+        results.sort(Comparator.comparingInt(BulkImportResultDTO.ItemResult::index));
+        final int imported = (int) results.stream().filter(result -> result.error() == null).count();
+        if (imported > 0) {
+            applicationEventPublisher.publishEvent(new WardrobeChangedEvent(userId, influencer));
+        }
+        return new BulkImportResultDTO(imported, results.size() - imported, results);
+    }
+
+    /**
+     * Removes a product from the user's wardrobe. The passport stays in the catalog for other
+     * wardrobes. Returns false when the wardrobe did not contain it.
+     */
+    public boolean removeFromWardrobe(UUID userId, UUID productId) {
+        final boolean influencer = userService.isInfluencer(userId);
+        final boolean removed = Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+            final int unlinked = jdbcTemplate.update("delete from users_products where users_id = ? and products_id = ?", userId, productId);
+            if (unlinked == 0) {
+                return false;
+            }
+            wardrobeAnalyticsService.recordRemoved(userId, List.of(productId));
+            wardrobeChangeService.record(userId, List.of(productId), true);
+            return true;
+        }));
+        if (removed) {
+            applicationEventPublisher.publishEvent(new WardrobeChangedEvent(userId, influencer));
+        }
+        return removed;
+    }
+
+    // The wardrobe reads below do not probe for the user: callers read the wardrobe version first,
+    // which already fails for an unknown user.
+    @Transactional(readOnly = true)
+    public WardrobeItemsDTO getUserWardrobeItems(UUID userId) {
+        return new WardrobeItemsDTO(productRepository.findAllByOwnerId(userId));
+    }
+
+    @Transactional(readOnly = true)
+    public WardrobeItemsDTO getUserWardrobeItemsByEcoScore(UUID userId, int minEcoScore) {
+        return new WardrobeItemsDTO(productRepository.findAllByOwnerIdWithEcoScoreAtLeast(userId, minEcoScore));
+    }
+
+    @Transactional(readOnly = true)
+    public WardrobePageDTO getUserWardrobePage(UUID userId, String cursor, int limit) {
+        final int pageSize = Math.clamp(limit, 1, MAX_PAGE_SIZE);
+        // One extra row tells whether another page follows without a count query.
+        final Limit fetchLimit = Limit.of(pageSize + 1);
+
+        final List<WardrobeItemSummaryDTO> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = productRepository.findSummariesByOwnerId(userId, fetchLimit);
+        } else {
+            final WardrobeCursor position = WardrobeCursor.decode(cursor);
+            rows = productRepository.findSummariesByOwnerIdAfter(userId, position.addedAt(), position.id(), fetchLimit);
+        }
+
+        if (rows.size() <= pageSize) {
+            return new WardrobePageDTO(rows, null);
+        }
+        final List<WardrobeItemSummaryDTO> page = rows.subList(0, pageSize);
+        return new WardrobePageDTO(page, WardrobeCursor.after(page.getLast()).encode());
+    }
+
+    private Product toProduct(CreateProductDTO createProductDTO) {
+        return toProduct(createProductDTO, storeImage(createProductDTO));
+    }
+
+    private String storeImage(CreateProductDTO createProductDTO) {
+        final String imageHash = imageStorageService.store(createProductDTO.image());
+        imageThumbnailService.generateAsync(imageHash);
+        return imageHash;
+    }
+
+    private Product toProduct(CreateProductDTO createProductDTO, String imageHash) {
         final Product product = Product.builder()
                 .productInformation(createProductDTO.productInformation())
                 .materialCompositions(createProductDTO.materialCompositions())
@@ -29,16 +192,125 @@ public class ProductService {
                 .endOfLife(createProductDTO.endOfLife())
                 .supplyChainTraceability(createProductDTO.supplyChainTraceability())
                 .metadata(createProductDTO.metadata())
-                .image(createProductDTO.image())
+                .imageHash(imageHash)
                 .build();
-        final Product savedProduct =  productRepository.save(product);
-        user.getProducts().add(savedProduct);
-        userService.saveUser(user);
-        return savedProduct;
+        product.setEcoScore(ecoScoreService.calculate(product));
+        return product;
     }
 
-    public WardrobeItemsDTO getUserWardrobeItems(UUID userId) {
-        final User user = userService.getUserById(userId);
-        return new WardrobeItemsDTO(user.getProducts());
+    private void importChunk(UUID userId, List<PendingPassport> chunk, List<BulkImportResultDTO.ItemResult> results) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        final Map<String, Product> catalog = passportCatalogService.findAllByGtin(chunk.stream()
+                .map(pending -> PassportCatalogService.gtinOf(pending.passport().productInformation()))
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet()));
+
+        final List<Integer> indices = new ArrayList<>();
+        final Map<Integer, Product> catalogProductsByIndex = new HashMap<>();
+        final Map<Integer, Integer> newPositionsByIndex = new HashMap<>();
+        final Map<String, Integer> newPositionsByGtin = new HashMap<>();
+        final List<NewPassport> newPassports = new ArrayList<>();
+        for (PendingPassport pending : chunk) {
+            final String gtin = PassportCatalogService.gtinOf(pending.passport().productInformation());
+            final Product product = gtin == null ? null : catalog.get(gtin);
+            if (product != null) {
+                catalogProductsByIndex.put(pending.index(), product);
+            } else {
+                // A GTIN repeated within the chunk is stored once.
+                Integer position = gtin == null ? null : newPositionsByGtin.get(gtin);
+                if (position == null) {
+                    final String imageHash;
+                    try {
+                        imageHash = storeImage(pending.passport());
+                    } catch (UncheckedIOException e) {
+                        results.add(BulkImportResultDTO.ItemResult.failed(pending.index(), e.getMessage()));
+                        continue;
+                    }
+                    position = newPassports.size();
+                    newPassports.add(new NewPassport(pending.passport(), imageHash));
+                    if (gtin != null) {
+                        newPositionsByGtin.put(gtin, position);
+                    }
+                }
+                newPositionsByIndex.put(pending.index(), position);
+            }
+            indices.add(pending.index());
+        }
+
+        final Map<Integer, UUID> productIdsByIndex = new LinkedHashMap<>();
+        try {
+            // A passport that lost an insert race to a concurrent import is replaced by the canonical one.
+            final List<Product> storedProducts = passportCatalogService.insertAll(
+                    newPassports,
+                    newPassport -> toProduct(newPassport.passport(), newPassport.imageHash())
+            );
+            for (Integer index : indices) {
+                final Product product = catalogProductsByIndex.containsKey(index)
+                        ? catalogProductsByIndex.get(index)
+                        : storedProducts.get(newPositionsByIndex.get(index));
+                productIdsByIndex.put(index, product.getId());
+            }
+            appendToWardrobe(userId, List.copyOf(productIdsByIndex.values()));
+        } catch (DataAccessException | TransactionException e) {
+            // The wardrobe links of a chunk commit together, so none of its passports were added.
+            log.warn("Could not store an imported chunk of {} passports for user {}", indices.size(), userId, e);
+            indices.forEach(index -> results.add(BulkImportResultDTO.ItemResult.failed(index, "Passport could not be stored")));
+            return;
+        }
+        productIdsByIndex.forEach((index, productId) -> results.add(BulkImportResultDTO.ItemResult.imported(index, productId)));
+    }
+
+    /**
+     * Links products to the owner's wardrobe with plain join-table inserts, so the owner's
+     * products collection is never loaded or re-saved. A product the user already owns is skipped.
+     * The wardrobe's analytics and change log are updated in the same transaction.
+     */
+    private void appendToWardrobe(UUID userId, List<UUID> productIds) {
+        if (productIds.isEmpty()) {
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            final List<UUID> linkedProductIds = linkToWardrobe(userId, productIds);
+            wardrobeAnalyticsService.recordAdded(userId, linkedProductIds);
+            wardrobeChangeService.record(userId, linkedProductIds, false);
+        });
+    }
+
+    private List<UUID> linkToWardrobe(UUID userId, List<UUID> productIds) {
+        final int[][] updateCounts = jdbcTemplate.batchUpdate(
+                """
+                merge into users_products target
+                using (values (cast(? as uuid), cast(? as uuid))) source (users_id, products_id)
+                on target.users_id = source.users_id and target.products_id = source.products_id
+                when not matched then insert (users_id, products_id) values (source.users_id, source.products_id)
+                """,
+                productIds,
+                productIds.size(),
+                (statement, productId) -> {
+                    statement.setObject(1, userId);
+                    statement.setObject(2, productId);
+                }
+        );
+
+        // The merge reports one row for a new link and none for a product already in the wardrobe.
+        final List<UUID> linkedProductIds = new ArrayList<>(productIds.size());
+        int position = 0;
+        for (int[] batch : updateCounts) {
+            for (int updateCount : batch) {
+                if (updateCount > 0) {
+                    linkedProductIds.add(productIds.get(position));
+                }
+                position++;
+            }
+        }
+        return linkedProductIds;
+    }
+
+    private record PendingPassport(int index, CreateProductDTO passport) {
+    }
+
+    private record NewPassport(CreateProductDTO passport, String imageHash) {
     }
 }
@@ -0,0 +1,132 @@
+package ee.pw.ecowardrobebackend.service;
+
+import ee.pw.ecowardrobebackend.dto.product.OwnedProduct;
+import ee.pw.ecowardrobebackend.dto.user.UserDTO;
+import ee.pw.ecowardrobebackend.entity.user.User;
+import ee.pw.ecowardrobebackend.repository.ProductRepository;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Writes a user's saved wardrobes as they are read from the database, in the same shape as
+ * {@code SavedWardrobeResponseDTO} and in the format of the given mapper. Products are streamed in chunks of {@link #CHUNK_SIZE} and
+ * evicted from the persistence context once written, so memory per request stays constant and
+ * the first wardrobe reaches the client before the last one is loaded.
+ */
+@Service
+@Timed(value = "app.service", histogram = true)
+@RequiredArgsConstructor
+public class SavedWardrobeStreamingService {
+    // Matches hibernate.default_batch_fetch_size so each chunk loads its element collections in one batch.
+    private static final int CHUNK_SIZE = 64;
+
+    private final UserService userService;
+    private final ProductRepository productRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * Does not probe for the user: the caller reads the saved wardrobes' versions before the
+     * response is committed, which already fails for an unknown user with an error status.
+     */
+    public StreamingResponseBody streamSavedWardrobeItems(UUID userId, ObjectMapper mapper) {
+        return outputStream -> transactionTemplate.executeWithoutResult(
+                status -> writeSavedWardrobeItems(userId, outputStream, mapper)
+        );
+    }
+
+    private void writeSavedWardrobeItems(UUID userId, OutputStream outputStream, ObjectMapper mapper) {
+        final Map<UUID, User> owners = new LinkedHashMap<>();
+        userService.getSavedWardrobeOwners(userId).forEach(owner -> owners.put(owner.getId(), owner));
+        try (JsonGenerator generator = mapper.createGenerator(outputStream)) {
+            generator.writeStartObject();
+            generator.writeName("savedWardrobeItems");
+            generator.writeStartArray();
+            if (!owners.isEmpty()) {
+                writeWardrobes(generator, owners, productRepository.streamAllSavedByUserId(userId));
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+    }
+
+    /**
+     * Writes the wardrobes in the order of the product stream, which groups products by save in
+     * save order. An owner is removed from {@code owners} once written, so a wardrobe saved twice
+     * appears once, at its first save. Products of all wardrobes share one query and one chunking,
+     * so the number of statements does not depend on how many wardrobes were saved.
+     */
+    private void writeWardrobes(JsonGenerator generator, Map<UUID, User> owners, Stream<OwnedProduct> products) {
+        final List<OwnedProduct> chunk = new ArrayList<>(CHUNK_SIZE);
+        UUID currentOwnerId = null;
+        boolean writing = false;
+        try (products) {
+            final Iterator<OwnedProduct> iterator = products.iterator();
+            while (iterator.hasNext()) {
+                chunk.add(iterator.next());
+                if (chunk.size() == CHUNK_SIZE || !iterator.hasNext()) {
+                    for (OwnedProduct ownedProduct : chunk) {
+                        if (!ownedProduct.ownerId().equals(currentOwnerId)) {
+                            if (writing) {
+                                endWardrobe(generator);
+                            }
+                            currentOwnerId = ownedProduct.ownerId();
+                            final User owner = owners.remove(currentOwnerId);
+                            writing = owner != null;
+                            if (writing) {
+                                startWardrobe(generator, owner);
+                            }
+                        }
+                        if (writing && ownedProduct.product() != null) {
+                            generator.writePOJO(ownedProduct.product());
+                        }
+                    }
+                    chunk.clear();
+                    // Owners were loaded with their preferences up front, so clearing only drops written products.
+                    entityManager.clear();
+                }
+            }
+        }
+        if (writing) {
+            endWardrobe(generator);
+        }
+    }
+
+    private static void startWardrobe(JsonGenerator generator, User owner) {
+        generator.writeStartObject();
+        generator.writePOJOProperty("user", toUserDTO(owner));
+        generator.writeName("products");
+        generator.writeStartArray();
+    }
+
+    private static void endWardrobe(JsonGenerator generator) {
+        generator.writeEndArray();
+        generator.writeEndObject();
+        generator.flush();
+    }
+
+    private static UserDTO toUserDTO(User owner) {
+        return UserDTO.builder()
+                .id(owner.getId())
+                .name(owner.getName())
+                .profilePictureHash(owner.getProfilePictureHash())
+                .isInfluencer(owner.isInfluencer())
+                .preference(owner.getPreference())
+                .build();
+    }
+}
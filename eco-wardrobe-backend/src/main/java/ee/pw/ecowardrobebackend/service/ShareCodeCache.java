@@ -0,0 +1,49 @@
+package ee.pw.ecowardrobebackend.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Maps share codes to the id of the wardrobe owner. A share never changes owner once created, so
+ * entries need no invalidation; unknown codes are not cached, so a code shared right after a miss
+ * is still found.
+ */
+@Component
+public class ShareCodeCache {
+    private final Cache<UUID, UUID> cache;
+
+    public ShareCodeCache(
+            MeterRegistry meterRegistry,
+            @Value("${app.cache.share-codes.max-entries:10000}") long maximumEntries
+    ) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumEntries)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "shareCodes");
+    }
+
+    public Optional<UUID> findOwnerId(UUID shareCode, Function<UUID, Optional<UUID>> loader) {
+        final UUID cachedOwnerId = cache.getIfPresent(shareCode);
+        if (cachedOwnerId != null) {
+            return Optional.of(cachedOwnerId);
+        }
+        // Loaded outside the cache's lock: a duplicate lookup is cheaper than a carrier thread
+        // pinned on JDBC when requests run on virtual threads.
+        final Optional<UUID> ownerId = loader.apply(shareCode);
+        ownerId.ifPresent(id -> cache.put(shareCode, id));
+        return ownerId;
+    }
+
+    public void put(UUID shareCode, UUID ownerId) {
+        cache.put(shareCode, ownerId);
+    }
+}
@@ -6,57 +6,83 @@ import ee.pw.ecowardrobebackend.dto.user.UserDTO;
 import ee.pw.ecowardrobebackend.dto.user.UserLoginRequestDTO;
 import ee.pw.ecowardrobebackend.dto.user.UserRegistrationDTO;
 import ee.pw.ecowardrobebackend.entity.user.Allergy;
+import ee.pw.ecowardrobebackend.entity.user.Preference;
 import ee.pw.ecowardrobebackend.entity.user.PreferredMaterials;
 import ee.pw.ecowardrobebackend.entity.user.User;
+import ee.pw.ecowardrobebackend.event.WardrobeChangedEvent;
 import ee.pw.ecowardrobebackend.repository.UserRepository;
+import ee.pw.ecowardrobebackend.security.SessionToken;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 @Service
+@Timed(value = "app.service", histogram = true)
 @RequiredArgsConstructor
 public class UserService {
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final ImageStorageService imageStorageService;
+    private final ImageThumbnailService imageThumbnailService;
+    private final WardrobeAnalyticsService wardrobeAnalyticsService;
+    private final TransactionTemplate transactionTemplate;
 
-    public UserDTO registerUser(UserRegistrationDTO userRegistrationDTO) {
-        final User persistedUser = userRepository.save(
-                User.builder()
-                        .name(userRegistrationDTO.name())
-                        .email(userRegistrationDTO.email())
-                        .password(passwordEncoder.encode(userRegistrationDTO.password()))
-                        .build()
-        );
-        return UserDTO.builder()
-                .id(persistedUser.getId())
-                .name(persistedUser.getName())
-                .email(persistedUser.getEmail())
-                .profilePicture(persistedUser.getProfilePicture())
-                .isInfluencer(persistedUser.isInfluencer())
-                .preference(persistedUser.getPreference())
-                .build();
+    public CompletableFuture<UserDTO> registerUser(UserRegistrationDTO userRegistrationDTO) {
+        return passwordHashingService.encode(userRegistrationDTO.password()).thenApply(encodedPassword -> {
+            final User persistedUser = transactionTemplate.execute(status -> {
+                final User user = userRepository.save(
+                        User.builder()
+                                .name(userRegistrationDTO.name())
+                                .email(userRegistrationDTO.email())
+                                .password(encodedPassword)
+                                .build()
+                );
+                wardrobeAnalyticsService.create(user.getId());
+                return user;
+            });
+            return UserDTO.builder()
+                    .id(persistedUser.getId())
+                    .name(persistedUser.getName())
+                    .email(persistedUser.getEmail())
+                    .profilePictureHash(persistedUser.getProfilePictureHash())
+                    .isInfluencer(persistedUser.isInfluencer())
+                    .preference(persistedUser.getPreference())
+                    .build();
+        });
     }
 
-    public Optional<UserDTO> loginUser(UserLoginRequestDTO userLoginRequestDTO) {
-        Optional<User> optionalUser = userRepository.findByEmail(userLoginRequestDTO.email());
-        if (optionalUser.isPresent() && passwordEncoder.matches(userLoginRequestDTO.password(), optionalUser.get().getPassword())) {
-            final User user = optionalUser.get();
+    public CompletableFuture<Optional<UserDTO>> loginUser(UserLoginRequestDTO userLoginRequestDTO) {
+        final Optional<User> optionalUser = userRepository.findWithPreferenceByEmail(userLoginRequestDTO.email());
+        if (optionalUser.isEmpty()) {
+            return CompletableFuture.completedFuture(Optional.empty());
+        }
+        final User user = optionalUser.get();
+        return passwordHashingService.verify(userLoginRequestDTO.password(), user.getPassword()).thenApply(verification -> {
+            if (!verification.matches()) {
+                return Optional.empty();
+            }
+            if (verification.upgradedPassword() != null) {
+                userRepository.updatePassword(user.getId(), verification.upgradedPassword());
+            }
             return Optional.of(UserDTO.builder()
                     .id(user.getId())
                     .name(user.getName())
                     .email(user.getEmail())
-                            .profilePicture(user.getProfilePicture())
-                            .isInfluencer(user.isInfluencer())
-                            .preference(user.getPreference())
+                    .profilePictureHash(user.getProfilePictureHash())
+                    .isInfluencer(user.isInfluencer())
+                    .preference(user.getPreference())
                     .build());
-        }
-        return Optional.empty();
+        });
     }
 
     public User getUserById(UUID userId) {
@@ -64,15 +90,42 @@ public class UserService {
                 .orElseThrow(() -> new IllegalArgumentException("User with id " + userId + " not found"));
     }
 
+    public User getUserReference(UUID userId) {
+        return userRepository.getReferenceById(userId);
+    }
+
+    /**
+     * A request authenticated as {@code userId} proves the user exists without a query.
+     */
+    public void requireUserExists(UUID userId) {
+        if (SessionToken.isAuthenticatedAs(userId)) {
+            return;
+        }
+        if (!userRepository.existsById(userId)) {
+            throw new IllegalArgumentException("User with id " + userId + " not found");
+        }
+    }
+
+    public boolean isInfluencer(UUID userId) {
+        return SessionToken.current()
+                .filter(session -> session.userId().equals(userId))
+                .map(SessionToken::influencer)
+                .orElseGet(() -> userRepository.findInfluencerFlagById(userId)
+                        .orElseThrow(() -> new IllegalArgumentException("User with id " + userId + " not found")));
+    }
+
     public UserDTO addUserPhoto(AddUserPhotoRequestDTO addUserPhotoRequestDTO, UUID userId) {
         final User user = getUserById(userId);
-        user.setProfilePicture(addUserPhotoRequestDTO.profilePicture());
+        final String profilePictureHash = imageStorageService.store(addUserPhotoRequestDTO.profilePicture());
+        imageThumbnailService.generateAsync(profilePictureHash);
+        user.setProfilePictureHash(profilePictureHash);
         final User updatedUser = userRepository.save(user);
+        applicationEventPublisher.publishEvent(new WardrobeChangedEvent(updatedUser.getId(), updatedUser.isInfluencer()));
         return UserDTO.builder()
                 .id(updatedUser.getId())
                 .name(updatedUser.getName())
                 .email(updatedUser.getEmail())
-                .profilePicture(updatedUser.getProfilePicture())
+                .profilePictureHash(updatedUser.getProfilePictureHash())
                 .isInfluencer(updatedUser.isInfluencer())
                 .preference(updatedUser.getPreference())
                 .build();
@@ -82,6 +135,10 @@ public class UserService {
         return userRepository.save(user);
     }
 
+    public List<User> getSavedWardrobeOwners(UUID userId) {
+        return userRepository.findSavedWardrobeOwnersWithPreference(userId);
+    }
+
     public List<User> getInfluencers() {
         return userRepository.findByIsInfluencer(true);
     }
@@ -91,15 +148,20 @@ public class UserService {
             ModifyPreferencesRequestDTO modifyPreferencesRequestDTO,
             UUID userId
     ) {
-        final User user = getUserById(userId);
+        final User user = userRepository.findWithPreferenceById(userId)
+                .orElseThrow(() -> new IllegalArgumentException("User with id " + userId + " not found"));
+        if (user.getPreference() == null) {
+            user.setPreference(new Preference());
+        }
         user.getPreference().setAllergies(modifyPreferencesRequestDTO.allergies().stream().map(Allergy::new).collect(Collectors.toSet()));
         user.getPreference().setPreferredMaterials(modifyPreferencesRequestDTO.preferredMaterials().stream().map(PreferredMaterials::new).collect(Collectors.toSet()));
+        applicationEventPublisher.publishEvent(new WardrobeChangedEvent(user.getId(), user.isInfluencer()));
 
         return UserDTO.builder()
                 .id(user.getId())
                 .name(user.getName())
                 .email(user.getEmail())
-                .profilePicture(user.getProfilePicture())
+                .profilePictureHash(user.getProfilePictureHash())
                 .isInfluencer(user.isInfluencer())
                 .preference(user.getPreference())
                 .build();
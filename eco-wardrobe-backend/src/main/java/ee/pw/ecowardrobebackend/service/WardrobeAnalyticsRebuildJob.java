@@ -0,0 +1,51 @@
+package ee.pw.ecowardrobebackend.service;
+
+import ee.pw.ecowardrobebackend.repository.UserRepository;
+import ee.pw.ecowardrobebackend.repository.WardrobeAnalyticsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Recomputes every wardrobe aggregate from scratch and reports how many had drifted from their
+ * wardrobe. Runs on the {@code app.analytics.rebuild-cron} schedule, which is off by default; each
+ * wardrobe is rebuilt in its own transaction, so the job never blocks more than one of them.
+ * Aggregates that were never computed are built once at startup.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WardrobeAnalyticsRebuildJob {
+    private final WardrobeAnalyticsService wardrobeAnalyticsService;
+    private final UserRepository userRepository;
+    private final WardrobeAnalyticsRepository wardrobeAnalyticsRepository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildUncomputed() {
+        final List<UUID> userIds = wardrobeAnalyticsRepository.findUncomputedUserIds();
+        userIds.forEach(wardrobeAnalyticsService::rebuild);
+        if (!userIds.isEmpty()) {
+            log.info("Computed wardrobe analytics of {} users", userIds.size());
+        }
+    }
+
+    @Scheduled(cron = "${app.analytics.rebuild-cron:-}")
+    public int rebuildAll() {
+        final List<UUID> userIds = userRepository.findAllIds();
+        int drifted = 0;
+        for (UUID userId : userIds) {
+            if (wardrobeAnalyticsService.rebuild(userId)) {
+                log.warn("Wardrobe analytics of user {} did not match the wardrobe and were rebuilt", userId);
+                drifted++;
+            }
+        }
+        log.info("Rebuilt wardrobe analytics of {} users, {} had drifted", userIds.size(), drifted);
+        return drifted;
+    }
+}
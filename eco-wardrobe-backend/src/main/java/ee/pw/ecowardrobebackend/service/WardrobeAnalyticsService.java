@@ -0,0 +1,180 @@
+package ee.pw.ecowardrobebackend.service;
+
+import ee.pw.ecowardrobebackend.dto.analytics.HistogramBin;
+import ee.pw.ecowardrobebackend.dto.analytics.WardrobeAnalyticsDTO;
+import ee.pw.ecowardrobebackend.dto.analytics.WardrobeTotals;
+import ee.pw.ecowardrobebackend.entity.analytics.WardrobeAnalytics;
+import ee.pw.ecowardrobebackend.repository.ProductRepository;
+import ee.pw.ecowardrobebackend.repository.WardrobeAnalyticsRepository;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Keeps one aggregate row per wardrobe, so analytics are read in constant time however many
+ * products the wardrobe holds. The row is created with its user and products are added to or
+ * subtracted from it in the transaction that links or unlinks them; updates of one row are
+ * serialized by its row lock. Reads never lock or compute: a row that was never computed (users
+ * that predate the aggregate) reads as empty until {@link WardrobeAnalyticsRebuildJob} or the next
+ * wardrobe change builds it.
+ */
+@Service
+@Timed(value = "app.service", histogram = true)
+@RequiredArgsConstructor
+public class WardrobeAnalyticsService {
+    private static final int PRODUCT_CHUNK_SIZE = 1000;
+    private static final double TOTALS_TOLERANCE = 1e-6;
+
+    private final WardrobeAnalyticsRepository wardrobeAnalyticsRepository;
+    private final ProductRepository productRepository;
+    private final EntityManager entityManager;
+
+    @Transactional(readOnly = true)
+    public WardrobeAnalyticsDTO getAnalytics(UUID userId) {
+        // Every user has a row, so a missing one means the user does not exist.
+        final WardrobeAnalytics analytics = wardrobeAnalyticsRepository.findById(userId)
+                .orElseThrow(() -> new IllegalArgumentException("User with id " + userId + " not found"));
+        return toDTO(analytics);
+    }
+
+    /**
+     * Creates the aggregate of a user created in the current transaction, including any products
+     * already linked to them. Must run in that transaction, so no user exists without a row.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void create(UUID userId) {
+        final WardrobeAnalytics analytics = new WardrobeAnalytics();
+        analytics.setUserId(userId);
+        recompute(analytics);
+        entityManager.persist(analytics);
+    }
+
+    /**
+     * Adds products that were just linked to the user's wardrobe. Must run in the transaction that
+     * linked them, so the aggregate commits or rolls back together with the wardrobe.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordAdded(UUID userId, Collection<UUID> productIds) {
+        if (productIds.isEmpty()) {
+            return;
+        }
+        final WardrobeAnalytics analytics = lock(userId);
+        if (analytics.getRebuiltAt() == null) {
+            // The wardrobe already contains the new products, so a full computation covers them.
+            recompute(analytics);
+        } else {
+            apply(analytics, productIds, 1);
+        }
+    }
+
+    /**
+     * Subtracts products that were just unlinked from the user's wardrobe. Must run in the
+     * transaction that unlinked them.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordRemoved(UUID userId, Collection<UUID> productIds) {
+        if (productIds.isEmpty()) {
+            return;
+        }
+        final WardrobeAnalytics analytics = lock(userId);
+        if (analytics.getRebuiltAt() == null) {
+            recompute(analytics);
+        } else {
+            apply(analytics, productIds, -1);
+        }
+    }
+
+    /**
+     * Recomputes the user's aggregate from the wardrobe and reports whether the stored one differed.
+     */
+    @Transactional
+    public boolean rebuild(UUID userId) {
+        final WardrobeAnalytics analytics = lock(userId);
+        final boolean computed = analytics.getRebuiltAt() != null;
+        final WardrobeAnalyticsDTO stored = toDTO(analytics);
+        recompute(analytics);
+        return computed && !sameAggregate(stored, toDTO(analytics));
+    }
+
+    private WardrobeAnalytics lock(UUID userId) {
+        // The row exists from the user's creation on, so concurrent writers always queue on its lock.
+        return wardrobeAnalyticsRepository.findForUpdate(userId)
+                .orElseThrow(() -> new IllegalArgumentException("User with id " + userId + " not found"));
+    }
+
+    private void recompute(WardrobeAnalytics analytics) {
+        analytics.setItemCount(0);
+        analytics.setCarbonFootprintKgCO2e(0);
+        analytics.setWaterUsageLiters(0);
+        analytics.setEnergyKwh(0);
+        analytics.setCategories(new LinkedHashMap<>());
+        analytics.setMaterials(new LinkedHashMap<>());
+
+        final List<UUID> productIds = productRepository.findIdsByOwnerId(analytics.getUserId());
+        for (int start = 0; start < productIds.size(); start += PRODUCT_CHUNK_SIZE) {
+            apply(analytics, productIds.subList(start, Math.min(start + PRODUCT_CHUNK_SIZE, productIds.size())), 1);
+        }
+        analytics.setRebuiltAt(LocalDateTime.now());
+    }
+
+    // Adds the products to the aggregate with sign 1 and subtracts them with sign -1.
+    private void apply(WardrobeAnalytics analytics, Collection<UUID> productIds, int sign) {
+        final WardrobeTotals totals = productRepository.sumTotalsByIdIn(productIds);
+        analytics.setItemCount(analytics.getItemCount() + sign * totals.itemCount());
+        analytics.setCarbonFootprintKgCO2e(analytics.getCarbonFootprintKgCO2e() + sign * totals.carbonFootprintKgCO2e());
+        analytics.setWaterUsageLiters(analytics.getWaterUsageLiters() + sign * totals.waterUsageLiters());
+        analytics.setEnergyKwh(analytics.getEnergyKwh() + sign * totals.energyKwh());
+        analytics.setCategories(merge(analytics.getCategories(), productRepository.countCategoriesByIdIn(productIds), sign));
+        analytics.setMaterials(merge(analytics.getMaterials(), productRepository.sumMaterialPercentagesByIdIn(productIds), sign));
+    }
+
+    private static Map<String, Long> merge(Map<String, Long> histogram, List<HistogramBin> bins, int sign) {
+        final Map<String, Long> merged = new LinkedHashMap<>(histogram);
+        // A bin emptied by a removal is dropped, so the histogram matches a full recomputation.
+        bins.forEach(bin -> merged.merge(bin.key(), sign * bin.value(), (current, delta) -> current + delta == 0 ? null : current + delta));
+        return merged;
+    }
+
+    private static WardrobeAnalyticsDTO toDTO(WardrobeAnalytics analytics) {
+        final long materialTotal = analytics.getMaterials().values().stream().mapToLong(Long::longValue).sum();
+        final Map<String, Double> materialShares = new LinkedHashMap<>();
+        analytics.getMaterials().forEach((material, percentage) ->
+                materialShares.put(material, materialTotal == 0 ? 0.0 : percentage * 100.0 / materialTotal));
+
+        return new WardrobeAnalyticsDTO(
+                analytics.getUserId(),
+                analytics.getItemCount(),
+                analytics.getCarbonFootprintKgCO2e(),
+                analytics.getWaterUsageLiters(),
+                analytics.getEnergyKwh(),
+                new LinkedHashMap<>(analytics.getCategories()),
+                materialShares
+        );
+    }
+
+    private static boolean sameAggregate(WardrobeAnalyticsDTO stored, WardrobeAnalyticsDTO rebuilt) {
+        // Sums of doubles depend on the order they were added in, so totals are compared loosely.
+        return stored.itemCount() == rebuilt.itemCount()
+                && sameTotal(stored.carbonFootprintKgCO2e(), rebuilt.carbonFootprintKgCO2e())
+                && sameTotal(stored.waterUsageLiters(), rebuilt.waterUsageLiters())
+                && sameTotal(stored.energyKwh(), rebuilt.energyKwh())
+                && stored.categories().equals(rebuilt.categories())
+                && stored.materialShares().keySet().equals(rebuilt.materialShares().keySet())
+                && stored.materialShares().entrySet().stream()
+                        .allMatch(share -> sameTotal(share.getValue(), rebuilt.materialShares().get(share.getKey())));
+    }
+
+    private static boolean sameTotal(double stored, double rebuilt) {
+        return Math.abs(stored - rebuilt) <= TOTALS_TOLERANCE * Math.max(1.0, Math.abs(rebuilt));
+    }
+}
@@ -0,0 +1,94 @@
+package ee.pw.ecowardrobebackend.service;
+
+import ee.pw.ecowardrobebackend.dto.product.WardrobeChangesDTO;
+import ee.pw.ecowardrobebackend.entity.product.Product;
+import ee.pw.ecowardrobebackend.entity.wardrobe.WardrobeChange;
+import ee.pw.ecowardrobebackend.repository.ProductRepository;
+import ee.pw.ecowardrobebackend.repository.WardrobeChangeRepository;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Change log of wardrobe contents for delta sync. Clients keep the watermark of their last sync
+ * and receive only the products added and the ids removed after it, instead of the whole wardrobe.
+ */
+@Service
+@Timed(value = "app.service", histogram = true)
+@RequiredArgsConstructor
+public class WardrobeChangeService {
+    private final WardrobeChangeRepository wardrobeChangeRepository;
+    private final ProductRepository productRepository;
+    private final UserService userService;
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Appends products linked to or unlinked from the wardrobe. Must run in the transaction that
+     * changed the wardrobe, after its analytics row was locked: the lock serializes writers of one
+     * wardrobe, so its change ids are assigned in commit order and a watermark never passes over a
+     * change that is still uncommitted.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(UUID userId, Collection<UUID> productIds, boolean removed) {
+        if (productIds.isEmpty()) {
+            return;
+        }
+        final Timestamp changedAt = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(
+                "insert into wardrobe_changes (user_id, product_id, removed, changed_at) values (?, ?, ?, ?)",
+                productIds,
+                productIds.size(),
+                (statement, productId) -> {
+                    statement.setObject(1, userId);
+                    statement.setObject(2, productId);
+                    statement.setBoolean(3, removed);
+                    statement.setTimestamp(4, changedAt);
+                }
+        );
+    }
+
+    /**
+     * Returns the changes after {@code since}, or the whole wardrobe when it is {@code null}. A
+     * product changed several times is reported once, by its latest change.
+     */
+    @Transactional(readOnly = true)
+    public WardrobeChangesDTO getChanges(UUID userId, Long since) {
+        userService.requireUserExists(userId);
+        if (since == null) {
+            // The watermark is read before the wardrobe, so a change committed in between is sent
+            // again on the next sync rather than lost.
+            final long watermark = wardrobeChangeRepository.findLatestIdByUserId(userId).orElse(0L);
+            return new WardrobeChangesDTO(productRepository.findAllByOwnerId(userId), List.of(), watermark);
+        }
+
+        final Map<UUID, Boolean> latestChanges = new LinkedHashMap<>();
+        long watermark = since;
+        for (WardrobeChange change : wardrobeChangeRepository.findByUserIdAndIdGreaterThanOrderById(userId, since)) {
+            latestChanges.remove(change.getProductId());
+            latestChanges.put(change.getProductId(), change.isRemoved());
+            watermark = change.getId();
+        }
+
+        final List<UUID> addedProductIds = latestChanges.entrySet().stream()
+                .filter(change -> !change.getValue())
+                .map(Map.Entry::getKey)
+                .toList();
+        final List<UUID> removedProductIds = latestChanges.entrySet().stream()
+                .filter(Map.Entry::getValue)
+                .map(Map.Entry::getKey)
+                .toList();
+        final List<Product> products = addedProductIds.isEmpty() ? List.of() : productRepository.findAllById(addedProductIds);
+        return new WardrobeChangesDTO(products, removedProductIds, watermark);
+    }
+}
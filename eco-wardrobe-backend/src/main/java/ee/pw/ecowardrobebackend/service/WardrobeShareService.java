@@ -1,57 +1,42 @@
 package ee.pw.ecowardrobebackend.service;
 
+import ee.pw.ecowardrobebackend.config.ContentFormats;
 import ee.pw.ecowardrobebackend.dto.share.SavedWardrobeResponseDTO;
 import ee.pw.ecowardrobebackend.dto.share.WardrobeShareResponseDTO;
 import ee.pw.ecowardrobebackend.dto.user.UserDTO;
+import ee.pw.ecowardrobebackend.dto.user.WardrobeVersion;
 import ee.pw.ecowardrobebackend.entity.sharing.SavedUserWardrobe;
 import ee.pw.ecowardrobebackend.entity.sharing.WardrobeShare;
 import ee.pw.ecowardrobebackend.entity.user.User;
 import ee.pw.ecowardrobebackend.repository.WardrobeShareRepository;
+import io.micrometer.core.annotation.Timed;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
 @Service
+@Timed(value = "app.service", histogram = true)
 @RequiredArgsConstructor
 public class WardrobeShareService {
     private final WardrobeShareRepository wardrobeShareRepository;
     private final UserService userService;
-
-    public SavedWardrobeResponseDTO getSavedWardrobeItems(UUID userId) {
-        final User associatedUser = userService.getUserById(userId);
-        final Set<SavedWardrobeResponseDTO.SavedWardrobeItemDTO> savedWardrobeItemDTOS = associatedUser
-                .getSavedUserWardrobes()
-                .stream()
-                .map(savedUserWardrobe -> {
-                    final User userWardrobeOwner = savedUserWardrobe.getUserWardrobeOwner();
-                    return new SavedWardrobeResponseDTO.SavedWardrobeItemDTO(
-                        UserDTO
-                        .builder()
-                        .id(userWardrobeOwner.getId())
-                        .name(userWardrobeOwner.getName())
-                        .profilePicture(userWardrobeOwner.getProfilePicture())
-                        .isInfluencer(userWardrobeOwner.isInfluencer())
-                        .preference(userWardrobeOwner.getPreference())
-                        .build(),
-                            userWardrobeOwner.getProducts()
-                    );
-                }).collect(Collectors.toSet());
-
-        return new SavedWardrobeResponseDTO(savedWardrobeItemDTOS);
-    }
+    private final InfluencerWardrobeCache influencerWardrobeCache;
+    private final ShareCodeCache shareCodeCache;
 
     public WardrobeShareResponseDTO shareWardrobe(UUID userId) {
-        final User associatedUser = userService.getUserById(userId);
+        userService.requireUserExists(userId);
         final WardrobeShare wardrobeShare = WardrobeShare.builder()
-                .associatedUser(associatedUser)
-                .shareCode(UUID.randomUUID().toString())
+                .associatedUser(userService.getUserReference(userId))
+                .shareCode(UUID.randomUUID())
                 .build();
         final WardrobeShare persistedWardrobeShare = wardrobeShareRepository.save(wardrobeShare);
+        shareCodeCache.put(persistedWardrobeShare.getShareCode(), userId);
 
         return new WardrobeShareResponseDTO(
                 persistedWardrobeShare.getId(),
@@ -60,17 +45,23 @@ public class WardrobeShareService {
     }
 
     @Transactional
-    public boolean addUserWardrobe(String shareCode, UUID userId) {
-        Optional<WardrobeShare> wardrobeShare = wardrobeShareRepository.findByShareCode(shareCode);
+    public boolean addUserWardrobe(UUID shareCode, UUID userId) {
+        if (shareCode == null) {
+            return false;
+        }
+        final Optional<UUID> wardrobeOwnerId = shareCodeCache.findOwnerId(
+                shareCode,
+                wardrobeShareRepository::findOwnerIdByShareCode
+        );
 
-        if (wardrobeShare.isEmpty()) {
+        if (wardrobeOwnerId.isEmpty()) {
             return false;
         }
 
         final User user = userService.getUserById(userId);
         user.getSavedUserWardrobes().add(
                 SavedUserWardrobe.builder()
-                        .userWardrobeOwner(wardrobeShare.get().getAssociatedUser())
+                        .userWardrobeOwner(userService.getUserReference(wardrobeOwnerId.get()))
                         .build()
         );
         userService.saveUser(user);
@@ -78,15 +69,31 @@ public class WardrobeShareService {
         return true;
     }
 
+    public InfluencerWardrobeCache.Feed getSharedInfluencerWardrobesFeed(ContentFormats.ContentFormat format) {
+        return influencerWardrobeCache.getFeed(format.mediaType(), () -> {
+            final List<User> influencers = userService.getInfluencers();
+            // Versions are read with the same rows as the feed, so the ETag always describes the
+            // cached body.
+            final String eTag = format.tag("influencers-" + WardrobeVersionService.digest(influencers.stream()
+                    .map(influencer -> new WardrobeVersion(influencer.getId(), influencer.getWardrobeVersion()))
+                    .toList()));
+            return new InfluencerWardrobeCache.Feed(format.mapper().writeValueAsBytes(toSavedWardrobes(influencers)), eTag);
+        });
+    }
+
     public SavedWardrobeResponseDTO getSharedInfluencerWardrobes() {
-        final Set<SavedWardrobeResponseDTO.SavedWardrobeItemDTO> savedWardrobeItemDTOS = userService.getInfluencers()
+        return toSavedWardrobes(userService.getInfluencers());
+    }
+
+    private SavedWardrobeResponseDTO toSavedWardrobes(List<User> influencers) {
+        final Set<SavedWardrobeResponseDTO.SavedWardrobeItemDTO> savedWardrobeItemDTOS = influencers
                 .stream()
                 .map(influencer -> new SavedWardrobeResponseDTO.SavedWardrobeItemDTO(
                         UserDTO
                             .builder()
                             .id(influencer.getId())
                             .name(influencer.getName())
-                            .profilePicture(influencer.getProfilePicture())
+                            .profilePictureHash(influencer.getProfilePictureHash())
                             .isInfluencer(influencer.isInfluencer())
                             .preference(influencer.getPreference())
                             .build(),
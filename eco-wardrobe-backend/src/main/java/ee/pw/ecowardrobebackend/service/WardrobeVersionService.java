@@ -0,0 +1,75 @@
+package ee.pw.ecowardrobebackend.service;
+
+import ee.pw.ecowardrobebackend.dto.user.WardrobeVersion;
+import ee.pw.ecowardrobebackend.event.WardrobeChangedEvent;
+import ee.pw.ecowardrobebackend.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Per-user wardrobe versions used as ETags. A version is bumped for every
+ * {@link WardrobeChangedEvent}, so it changes with the user's products, profile picture and
+ * preferences and can be compared with If-None-Match before any product is loaded.
+ */
+@Service
+@RequiredArgsConstructor
+public class WardrobeVersionService {
+    private static final int ETAG_BYTES = 16;
+
+    private final UserRepository userRepository;
+
+    public String getWardrobeETag(UUID userId) {
+        final long version = userRepository.findWardrobeVersionById(userId)
+                .orElseThrow(() -> new IllegalArgumentException("User with id " + userId + " not found"));
+        return "wardrobe-" + version;
+    }
+
+    public String getSavedWardrobesETag(UUID userId) {
+        final List<WardrobeVersion> versions = userRepository.findSavedWardrobeVersions(userId);
+        if (versions.isEmpty()) {
+            throw new IllegalArgumentException("User with id " + userId + " not found");
+        }
+        return "saved-" + digest(versions.stream().filter(version -> version.userId() != null).toList());
+    }
+
+    /**
+     * Digest of a set of wardrobe versions; independent of order, and changes when a wardrobe is
+     * added, removed or bumped.
+     */
+    static String digest(Collection<WardrobeVersion> versions) {
+        final MessageDigest digest = sha256();
+        versions.stream()
+                .distinct()
+                .sorted(Comparator.comparing(WardrobeVersion::userId))
+                .forEach(version -> digest.update((version.userId() + ":" + version.version() + "\n").getBytes(StandardCharsets.UTF_8)));
+        return HexFormat.of().formatHex(digest.digest(), 0, ETAG_BYTES);
+    }
+
+    // Runs before the influencer feed is invalidated, so a feed reloaded after the invalidation is
+    // never tagged with the previous version.
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @EventListener
+    void onWardrobeChanged(WardrobeChangedEvent event) {
+        userRepository.incrementWardrobeVersion(event.userId());
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,140 @@
+-- Baseline: the schema of the entity mappings at the point the project moved from ddl-auto to migrations.
+
+create table users (
+    id uuid not null,
+    created_at timestamp(6) not null,
+    updated_at timestamp(6),
+    email varchar(255) not null,
+    name varchar(255),
+    password varchar(255),
+    profile_picture_hash varchar(64),
+    is_influencer boolean not null,
+    primary key (id),
+    constraint uk_users_email unique (email)
+);
+
+create table users_allergies (
+    user_id uuid not null,
+    name varchar(255) not null,
+    primary key (user_id, name),
+    constraint fk_users_allergies_user foreign key (user_id) references users (id)
+);
+
+create table users_preferred_materials (
+    user_id uuid not null,
+    material varchar(255) not null,
+    primary key (user_id, material),
+    constraint fk_users_preferred_materials_user foreign key (user_id) references users (id)
+);
+
+create table products (
+    id uuid not null,
+    created_at timestamp(6) not null,
+    updated_at timestamp(6),
+    gtin varchar(255),
+    product_name varchar(255),
+    category varchar(255),
+    brand varchar(255),
+    model varchar(255),
+    carbon_footprint_kg_co2e double precision,
+    water_usage_liters double precision,
+    energy_kwh double precision,
+    recycled_content_percentage double precision,
+    hazardous_substances varchar(255),
+    producer_name varchar(255),
+    address varchar(255),
+    contact varchar(255),
+    manufacturing_date varchar(255),
+    expected_lifetime_cycles integer,
+    wash_instructions varchar(255),
+    repair_difficulty varchar(255),
+    spare_parts_available boolean,
+    repair_guides_url varchar(255),
+    recyclability_percentage double precision,
+    disassembly_instructions_url varchar(255),
+    passport_created varchar(255),
+    passport_last_updated varchar(255),
+    data_owner varchar(255),
+    image_hash varchar(64),
+    eco_score integer,
+    primary key (id)
+);
+
+create index idx_products_eco_score on products (eco_score);
+create index idx_products_created_at_id on products (created_at, id);
+create unique index uk_products_gtin on products (gtin);
+
+create table products_material_compositions (
+    product_id uuid not null,
+    material_name varchar(255),
+    composition_percentage integer not null,
+    certifications varchar(255),
+    constraint fk_products_material_compositions_product foreign key (product_id) references products (id)
+);
+
+create table products_production_sites (
+    product_id uuid not null,
+    country varchar(255),
+    facility_id varchar(255),
+    processes varchar(255),
+    constraint fk_products_production_sites_product foreign key (product_id) references products (id)
+);
+
+create table products_take_back_programs (
+    product_id uuid not null,
+    program_name varchar(255),
+    url varchar(255),
+    constraint fk_products_take_back_programs_product foreign key (product_id) references products (id)
+);
+
+create table products_supply_chain (
+    product_id uuid not null,
+    stage varchar(255),
+    supplier varchar(255),
+    country varchar(255),
+    certificate varchar(255),
+    constraint fk_products_supply_chain_product foreign key (product_id) references products (id)
+);
+
+create table users_products (
+    users_id uuid not null,
+    products_id uuid not null,
+    primary key (users_id, products_id),
+    constraint fk_users_products_user foreign key (users_id) references users (id),
+    constraint fk_users_products_product foreign key (products_id) references products (id)
+);
+
+create table wardrobe_share (
+    id uuid not null,
+    share_code uuid not null,
+    associated_user_id uuid,
+    primary key (id),
+    constraint fk_wardrobe_share_associated_user foreign key (associated_user_id) references users (id)
+);
+
+create unique index uk_wardrobe_share_share_code on wardrobe_share (share_code);
+
+create table user_wardrobe_share (
+    id uuid not null,
+    user_wardrobe_owner_id uuid,
+    primary key (id),
+    constraint fk_user_wardrobe_share_owner foreign key (user_wardrobe_owner_id) references users (id)
+);
+
+create table users_saved_wardrobes (
+    users_id uuid not null,
+    saved_wardrobes_id uuid not null,
+    primary key (users_id, saved_wardrobes_id),
+    constraint uk_users_saved_wardrobes_saved_wardrobe unique (saved_wardrobes_id),
+    constraint fk_users_saved_wardrobes_user foreign key (users_id) references users (id),
+    constraint fk_users_saved_wardrobes_saved_wardrobe foreign key (saved_wardrobes_id) references user_wardrobe_share (id)
+);
+
+create table users_wardrobe_shares (
+    users_id uuid not null,
+    wardrobe_shares_id uuid not null,
+    primary key (users_id, wardrobe_shares_id),
+    constraint uk_users_wardrobe_shares_wardrobe_share unique (wardrobe_shares_id),
+    constraint fk_users_wardrobe_shares_user foreign key (users_id) references users (id),
+    constraint fk_users_wardrobe_shares_wardrobe_share foreign key (wardrobe_shares_id) references wardrobe_share (id)
+);
@@ -0,0 +1,11 @@
+-- Influencer feed: UserRepository.findByIsInfluencer.
+create index idx_users_is_influencer on users (is_influencer);
+
+-- Ownership lookups from the passport side; the primary key only serves lookups by user.
+create index idx_users_products_products_id on users_products (products_id);
+
+-- Batch fetches of passport collections: where product_id in (...).
+create index idx_products_material_compositions_product_id on products_material_compositions (product_id);
+create index idx_products_production_sites_product_id on products_production_sites (product_id);
+create index idx_products_take_back_programs_product_id on products_take_back_programs (product_id);
+create index idx_products_supply_chain_product_id on products_supply_chain (product_id);
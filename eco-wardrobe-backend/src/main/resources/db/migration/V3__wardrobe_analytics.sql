@@ -0,0 +1,12 @@
+create table wardrobe_analytics (
+    user_id uuid not null,
+    item_count bigint not null,
+    carbon_footprint_kg_co2e double precision not null,
+    water_usage_liters double precision not null,
+    energy_kwh double precision not null,
+    categories clob,
+    materials clob,
+    rebuilt_at timestamp(6),
+    primary key (user_id),
+    constraint fk_wardrobe_analytics_user foreign key (user_id) references users (id)
+);
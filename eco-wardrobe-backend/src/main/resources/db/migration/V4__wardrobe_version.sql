@@ -0,0 +1 @@
+alter table users add column wardrobe_version bigint default 0 not null;
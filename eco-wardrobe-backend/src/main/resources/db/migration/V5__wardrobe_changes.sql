@@ -0,0 +1,13 @@
+create table wardrobe_changes (
+    id bigint generated by default as identity,
+    user_id uuid not null,
+    product_id uuid not null,
+    removed boolean not null,
+    changed_at timestamp(6) not null,
+    primary key (id),
+    constraint fk_wardrobe_changes_user foreign key (user_id) references users (id),
+    constraint fk_wardrobe_changes_product foreign key (product_id) references products (id)
+);
+
+-- Delta sync: WardrobeChangeRepository.findByUserIdAndIdGreaterThanOrderById.
+create index idx_wardrobe_changes_user_id_id on wardrobe_changes (user_id, id);
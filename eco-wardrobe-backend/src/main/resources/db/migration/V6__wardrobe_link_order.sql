@@ -0,0 +1,7 @@
+-- Wardrobe pages are ordered by when a product was added to the wardrobe, not when the shared
+-- passport was first stored. Existing links all get the migration time and fall back to id order.
+alter table users_products add column added_at timestamp(6) default current_timestamp not null;
+
+create index idx_users_products_users_id_added_at on users_products (users_id, added_at, products_id);
+
+drop index idx_products_created_at_id;
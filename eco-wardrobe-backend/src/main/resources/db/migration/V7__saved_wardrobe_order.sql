@@ -0,0 +1,3 @@
+-- Saved wardrobes are listed in the order they were saved. Existing saves all get the migration
+-- time and fall back to id order.
+alter table user_wardrobe_share add column saved_at timestamp(6) default current_timestamp not null;
@@ -0,0 +1,7 @@
+-- Every user now has an aggregate row from registration on, so writers only ever lock an existing
+-- row. Rows added here are not computed yet (rebuilt_at is null); WardrobeAnalyticsRebuildJob
+-- computes them at startup.
+insert into wardrobe_analytics (user_id, item_count, carbon_footprint_kg_co2e, water_usage_liters, energy_kwh, categories, materials)
+select u.id, 0, 0, 0, 0, '{}', '{}'
+from users u
+where not exists (select 1 from wardrobe_analytics a where a.user_id = u.id);
@@ -0,0 +1,39 @@
+package ee.pw.ecowardrobebackend;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.MigrationInfo;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Starts the prod profile on an empty database: Flyway must build the schema and Hibernate must
+ * accept it under ddl-auto=validate before the seed data is written through every mapped table.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:schema-migrations;DB_CLOSE_DELAY=-1",
+        "spring.jpa.properties.hibernate.search.backend.directory.type=local-heap"
+})
+@ActiveProfiles("prod")
+class SchemaMigrationTests {
+    @Autowired
+    private Flyway flyway;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void migrationsBuildTheMappedSchema() {
+        assertThat(Arrays.stream(flyway.info().applied()).map(MigrationInfo::getVersion).map(Object::toString))
+                .containsExactly("1", "2", "3", "4", "5", "6", "7", "8");
+        assertThat(flyway.info().pending()).isEmpty();
+        assertThat(jdbcTemplate.queryForObject("select count(*) from users_products", Long.class)).isPositive();
+        assertThat(jdbcTemplate.queryForObject("select count(*) from products_supply_chain", Long.class)).isPositive();
+    }
+}
@@ -0,0 +1,33 @@
+package ee.pw.ecowardrobebackend.config;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ListStringConverterTests {
+    private final ListStringConverter converter = new ListStringConverter();
+
+    @Test
+    void listsRoundTripUnchanged() {
+        for (List<String> list : List.of(
+                List.of("a", "b", "c"),
+                List.of("a|b", "c\\d", "\\0", "\\e"),
+                List.of(""),
+                List.of("", ""),
+                List.of("a", ""),
+                Arrays.asList("a", null, ""),
+                Arrays.asList((String) null)
+        )) {
+            assertThat(converter.convertToEntityAttribute(converter.convertToDatabaseColumn(list))).isEqualTo(list);
+        }
+    }
+
+    @Test
+    void emptyListIsStoredAsNull() {
+        assertThat(converter.convertToDatabaseColumn(List.of())).isNull();
+        assertThat(converter.convertToEntityAttribute(null)).isEmpty();
+    }
+}
@@ -0,0 +1,128 @@
+package ee.pw.ecowardrobebackend.controller;
+
+import ee.pw.ecowardrobebackend.config.ContentFormats;
+import ee.pw.ecowardrobebackend.dto.product.CreateProductDTO;
+import ee.pw.ecowardrobebackend.dto.user.UserDTO;
+import ee.pw.ecowardrobebackend.dto.user.UserRegistrationDTO;
+import ee.pw.ecowardrobebackend.entity.product.ProductInformation;
+import ee.pw.ecowardrobebackend.service.ProductService;
+import ee.pw.ecowardrobebackend.service.UserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.dataformat.cbor.CBORMapper;
+
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasItem;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:content-negotiation",
+        "app.images.directory=build/test-images"
+})
+class ContentNegotiationTests {
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ContentFormats contentFormats;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).build();
+    }
+
+    @Test
+    void passportIsUploadedAndListedAsCbor() throws Exception {
+        final CBORMapper cborMapper = contentFormats.getCborMapper();
+        final UserDTO user = userService.registerUser(new UserRegistrationDTO(UUID.randomUUID() + "@test.pl", "CBOR Test", "secret")).join();
+        final byte[] image = {(byte) 0x89, 'P', 'N', 'G', 0, 1, 2, 3};
+        final CreateProductDTO passport = CreateProductDTO.builder()
+                .productInformation(new ProductInformation("5930000000001", "Koszulka CBOR", "Koszulki", "EkoUbrania", "Test"))
+                .image(image)
+                .build();
+
+        mockMvc.perform(post("/api/products/create/{id}", user.id())
+                        .contentType(MediaType.APPLICATION_CBOR)
+                        .content(cborMapper.writeValueAsBytes(passport)))
+                .andExpect(status().isOk());
+
+        final byte[] wardrobe = mockMvc.perform(get("/api/products/{id}", user.id()).accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_CBOR))
+                .andReturn().getResponse().getContentAsByteArray();
+        final JsonNode products = cborMapper.readTree(wardrobe).get("products");
+        assertThat(products.size()).isEqualTo(1);
+        assertThat(products.get(0).get("productInformation").get("gtin").asString()).isEqualTo("5930000000001");
+        // The image arrived as the raw bytes that were sent, so it is stored under their digest.
+        assertThat(products.get(0).get("imageHash").asString())
+                .isEqualTo(HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(image)));
+
+        final String jsonETag = mockMvc.perform(get("/api/products/{id}", user.id()).accept(MediaType.APPLICATION_JSON))
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        final String cborETag = mockMvc.perform(get("/api/products/{id}", user.id()).accept(MediaType.APPLICATION_CBOR))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(cborETag).isNotEqualTo(jsonETag);
+    }
+
+    @Test
+    void passportIsServedInTheAcceptedFormat() throws Exception {
+        final UserDTO user = userService.registerUser(new UserRegistrationDTO(UUID.randomUUID() + "@test.pl", "Passport Test", "secret")).join();
+        productService.createProduct(CreateProductDTO.builder()
+                .productInformation(new ProductInformation("5930000000002", "Kurtka paszportowa", "Kurtki", "EkoUbrania", "Test"))
+                .build(), user.id());
+
+        final byte[] json = mockMvc.perform(get("/api/passports/{gtin}", "5930000000002").accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(header().stringValues(HttpHeaders.VARY, hasItem(HttpHeaders.ACCEPT)))
+                .andReturn().getResponse().getContentAsByteArray();
+        final byte[] cbor = mockMvc.perform(get("/api/passports/{gtin}", "5930000000002").accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_CBOR))
+                .andReturn().getResponse().getContentAsByteArray();
+        final byte[] smile = mockMvc.perform(get("/api/passports/{gtin}", "5930000000002").accept(ContentFormats.APPLICATION_SMILE))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(ContentFormats.APPLICATION_SMILE))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        final JsonNode passport = contentFormats.json().mapper().readTree(json);
+        assertThat(passport.get("productInformation").get("productName").asString()).isEqualTo("Kurtka paszportowa");
+        assertThat(contentFormats.getCborMapper().readTree(cbor)).isEqualTo(passport);
+        assertThat(contentFormats.getSmileMapper().readTree(smile)).isEqualTo(passport);
+    }
+
+    @Test
+    void influencerFeedIsServedAsSmile() throws Exception {
+        final byte[] feed = mockMvc.perform(get("/api/wardrobe-share/get-shared-influencers-wardrobes").accept(ContentFormats.APPLICATION_SMILE))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(ContentFormats.APPLICATION_SMILE))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        assertThat(contentFormats.getSmileMapper().readTree(feed).has("savedWardrobeItems")).isTrue();
+    }
+}
@@ -0,0 +1,239 @@
+package ee.pw.ecowardrobebackend.controller;
+
+import ee.pw.ecowardrobebackend.dto.product.CreateProductDTO;
+import ee.pw.ecowardrobebackend.dto.user.UserDTO;
+import ee.pw.ecowardrobebackend.dto.user.UserRegistrationDTO;
+import ee.pw.ecowardrobebackend.entity.product.EndOfLife;
+import ee.pw.ecowardrobebackend.entity.product.Manufacturing;
+import ee.pw.ecowardrobebackend.entity.product.MaterialComposition;
+import ee.pw.ecowardrobebackend.entity.product.Producer;
+import ee.pw.ecowardrobebackend.entity.product.ProductEnvironmentImpact;
+import ee.pw.ecowardrobebackend.entity.product.ProductInformation;
+import ee.pw.ecowardrobebackend.entity.product.ProductionSite;
+import ee.pw.ecowardrobebackend.entity.product.SupplyChainStage;
+import ee.pw.ecowardrobebackend.entity.product.SupplyChainTraceability;
+import ee.pw.ecowardrobebackend.entity.product.TakeBackProgram;
+import ee.pw.ecowardrobebackend.service.InfluencerWardrobeCache;
+import ee.pw.ecowardrobebackend.service.ProductService;
+import ee.pw.ecowardrobebackend.service.UserService;
+import ee.pw.ecowardrobebackend.service.WardrobeShareService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.not;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:statement-counts",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class EndpointStatementCountTests {
+    private static final AtomicLong GTINS = new AtomicLong(5900000000000L);
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private WardrobeShareService wardrobeShareService;
+
+    @Autowired
+    private InfluencerWardrobeCache influencerWardrobeCache;
+
+    private MockMvc mockMvc;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).build();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void loginLoadsUserAndPreferencesInOneStatement() throws Exception {
+        final String email = uniqueEmail();
+        userService.registerUser(new UserRegistrationDTO(email, "Login Test", "secret")).join();
+
+        statistics.clear();
+        final MvcResult login = mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\":\"" + email + "\",\"password\":\"secret\"}"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(login)).andExpect(status().isOk());
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void modifyPreferencesLoadsOnlyTheUserWithPreferences() throws Exception {
+        final UserDTO user = userService.registerUser(new UserRegistrationDTO(uniqueEmail(), "Preferences Test", "secret")).join();
+
+        statistics.clear();
+        mockMvc.perform(post("/api/users/modify-preferences/{userId}", user.id())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"allergies\":[\"Wełna\"],\"preferredMaterials\":[\"Len\"]}"))
+                .andExpect(status().isOk());
+
+        // user with preferences; the wardrobe version bump is a bulk update, not a query execution
+        assertThat(statistics.getQueryExecutionCount()).isEqualTo(1);
+        assertThat(statistics.getEntityFetchCount()).isZero();
+        assertThat(statistics.getCollectionFetchCount()).isZero();
+    }
+
+    @Test
+    void wardrobeListingStatementCountDoesNotGrowWithWardrobeSize() throws Exception {
+        final UUID smallWardrobeOwner = userWithProducts(1);
+        final UUID largeWardrobeOwner = userWithProducts(5);
+
+        statistics.clear();
+        mockMvc.perform(get("/api/products/{id}", smallWardrobeOwner)).andExpect(status().isOk());
+        final long smallWardrobeStatements = statistics.getPrepareStatementCount();
+
+        statistics.clear();
+        mockMvc.perform(get("/api/products/{id}", largeWardrobeOwner)).andExpect(status().isOk());
+        final long largeWardrobeStatements = statistics.getPrepareStatementCount();
+
+        // version probe + product page + one batch per product element collection
+        assertThat(largeWardrobeStatements).isEqualTo(smallWardrobeStatements).isLessThanOrEqualTo(6);
+    }
+
+    @Test
+    void unchangedWardrobeIsAnsweredFromTheVersionAlone() throws Exception {
+        final UUID owner = userWithProducts(3);
+        final String eTag = mockMvc.perform(get("/api/products/{id}", owner))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        statistics.clear();
+        mockMvc.perform(get("/api/products/{id}", owner).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified());
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+
+        productService.createProduct(passport(uniqueGtin()), owner);
+        mockMvc.perform(get("/api/products/{id}", owner).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, not(eTag)));
+    }
+
+    @Test
+    void influencerListingFetchesProductsWithTheInfluencers() throws Exception {
+        influencerWardrobeCache.invalidate();
+
+        statistics.clear();
+        mockMvc.perform(get("/api/wardrobe-share/get-shared-influencers-wardrobes")).andExpect(status().isOk());
+
+        // influencers joined with products + two preference batches + one batch per product element collection
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(7);
+
+        statistics.clear();
+        mockMvc.perform(get("/api/wardrobe-share/get-shared-influencers-wardrobes")).andExpect(status().isOk());
+
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+
+        final String eTag = mockMvc.perform(get("/api/wardrobe-share/get-shared-influencers-wardrobes"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        mockMvc.perform(get("/api/wardrobe-share/get-shared-influencers-wardrobes").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void savedWardrobesStatementCountDoesNotGrowWithSavedWardrobes() throws Exception {
+        final UUID oneSavedWardrobe = userWithSavedWardrobes(1);
+        final UUID manySavedWardrobes = userWithSavedWardrobes(5);
+
+        statistics.clear();
+        final MvcResult fewWardrobes = mockMvc.perform(get("/api/wardrobe-share/get-saved-wardrobes/{userId}", oneSavedWardrobe))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(fewWardrobes)).andExpect(status().isOk());
+        final long fewWardrobesStatements = statistics.getPrepareStatementCount();
+
+        statistics.clear();
+        final MvcResult manyWardrobes = mockMvc.perform(get("/api/wardrobe-share/get-saved-wardrobes/{userId}", manySavedWardrobes))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(manyWardrobes)).andExpect(status().isOk());
+        final long manyWardrobesStatements = statistics.getPrepareStatementCount();
+
+        // saved versions + owners with preferences + products of all owners + one batch per product element collection
+        assertThat(manyWardrobesStatements).isEqualTo(fewWardrobesStatements).isLessThanOrEqualTo(7);
+    }
+
+    private UUID userWithSavedWardrobes(int savedWardrobeCount) {
+        final UserDTO user = userService.registerUser(new UserRegistrationDTO(uniqueEmail(), "Saved Wardrobes Test", "secret")).join();
+        for (int i = 0; i < savedWardrobeCount; i++) {
+            final UUID shareCode = wardrobeShareService.shareWardrobe(userWithProducts(2)).shareCode();
+            wardrobeShareService.addUserWardrobe(shareCode, user.id());
+        }
+        return user.id();
+    }
+
+    private UUID userWithProducts(int productCount) {
+        final UserDTO user = userService.registerUser(new UserRegistrationDTO(uniqueEmail(), "Wardrobe Test", "secret")).join();
+        for (int i = 0; i < productCount; i++) {
+            productService.createProduct(passport(uniqueGtin()), user.id());
+        }
+        return user.id();
+    }
+
+    private static CreateProductDTO passport(String gtin) {
+        return CreateProductDTO.builder()
+                .productInformation(new ProductInformation(gtin, "Koszulka testowa", "Koszulki", "EkoUbrania", "Test"))
+                .materialCompositions(List.of(MaterialComposition.builder()
+                        .materialName("Bawełna organiczna")
+                        .compositionPercentage(100)
+                        .certifications(List.of("GOTS", "OEKO-TEX"))
+                        .build()))
+                .productEnvironmentImpact(new ProductEnvironmentImpact(12.5, 150.0, 45.0, 80.0, List.of("Nie wykryto")))
+                .manufacturing(new Manufacturing(
+                        new Producer("EkoUbrania Producent", "Polska", "kontakt@ekoubrania.com"),
+                        List.of(new ProductionSite("Polska", "FAB-001", List.of("Tkanie", "Barwienie"))),
+                        "2025-01-01"
+                ))
+                .endOfLife(new EndOfLife(85.0, "https://recykling.example.com",
+                        List.of(new TakeBackProgram("Zielony Program Zwrotów", "https://example.com/zwroty"))))
+                .supplyChainTraceability(new SupplyChainTraceability(
+                        List.of(new SupplyChainStage("Surowiec", "Spółdzielnia", "Turcja", "GOTS"))))
+                .build();
+    }
+
+    private static String uniqueEmail() {
+        return UUID.randomUUID() + "@test.pl";
+    }
+
+    // Passports are shared by GTIN, so each fixture wardrobe gets its own.
+    private static String uniqueGtin() {
+        return String.valueOf(GTINS.incrementAndGet());
+    }
+}
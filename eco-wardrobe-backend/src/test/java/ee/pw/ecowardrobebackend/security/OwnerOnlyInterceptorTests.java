@@ -0,0 +1,92 @@
+package ee.pw.ecowardrobebackend.security;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OwnerOnlyInterceptorTests {
+    private static final UUID OWNER_ID = UUID.randomUUID();
+
+    private final OwnerOnlyInterceptor optionalSessions = new OwnerOnlyInterceptor(false);
+    private final OwnerOnlyInterceptor requiredSessions = new OwnerOnlyInterceptor(true);
+
+    @Test
+    void ownerIsLetThrough() throws Exception {
+        final MockHttpServletRequest request = requestWithSession(OWNER_ID);
+
+        assertThat(optionalSessions.preHandle(request, new MockHttpServletResponse(), handler("ownerOnly"))).isTrue();
+        assertThat(requiredSessions.preHandle(request, new MockHttpServletResponse(), handler("ownerOnly"))).isTrue();
+    }
+
+    @Test
+    void sessionOfAnotherUserIsForbidden() {
+        final MockHttpServletRequest request = requestWithSession(UUID.randomUUID());
+
+        assertRejected(optionalSessions, request, "ownerOnly", HttpStatus.FORBIDDEN);
+        assertRejected(requiredSessions, request, "ownerOnly", HttpStatus.FORBIDDEN);
+    }
+
+    @Test
+    void missingSessionIsLetThroughOnlyWhileSessionsAreOptional() throws Exception {
+        assertThat(optionalSessions.preHandle(request(), new MockHttpServletResponse(), handler("ownerOnly"))).isTrue();
+        assertRejected(requiredSessions, request(), "ownerOnly", HttpStatus.UNAUTHORIZED);
+    }
+
+    @Test
+    void invalidTokenIsRejectedEvenWhileSessionsAreOptional() {
+        final MockHttpServletRequest request = request();
+        request.setAttribute(SessionTokenFilter.INVALID_TOKEN_ATTRIBUTE, Boolean.TRUE);
+
+        assertRejected(optionalSessions, request, "ownerOnly", HttpStatus.UNAUTHORIZED);
+        assertRejected(requiredSessions, request, "ownerOnly", HttpStatus.UNAUTHORIZED);
+    }
+
+    @Test
+    void handlersWithoutOwnerOnlyIgnoreSessions() throws Exception {
+        final MockHttpServletRequest request = requestWithSession(UUID.randomUUID());
+        request.setAttribute(SessionTokenFilter.INVALID_TOKEN_ATTRIBUTE, Boolean.TRUE);
+
+        assertThat(requiredSessions.preHandle(request, new MockHttpServletResponse(), handler("open"))).isTrue();
+    }
+
+    private static void assertRejected(OwnerOnlyInterceptor interceptor, MockHttpServletRequest request, String handlerName, HttpStatus status) {
+        assertThatThrownBy(() -> interceptor.preHandle(request, new MockHttpServletResponse(), handler(handlerName)))
+                .isInstanceOfSatisfying(ResponseStatusException.class, e -> assertThat(e.getStatusCode()).isEqualTo(status));
+    }
+
+    private static MockHttpServletRequest requestWithSession(UUID sessionUserId) {
+        final MockHttpServletRequest request = request();
+        request.setAttribute(SessionToken.ATTRIBUTE, new SessionToken(sessionUserId, false, Instant.now().plusSeconds(60)));
+        return request;
+    }
+
+    private static MockHttpServletRequest request() {
+        final MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE, Map.of("id", OWNER_ID.toString()));
+        return request;
+    }
+
+    private static HandlerMethod handler(String name) throws NoSuchMethodException {
+        return new HandlerMethod(new Handlers(), Handlers.class.getDeclaredMethod(name));
+    }
+
+    static class Handlers {
+        @OwnerOnly("id")
+        void ownerOnly() {
+        }
+
+        void open() {
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package ee.pw.ecowardrobebackend.security;
+
+import ee.pw.ecowardrobebackend.dto.user.UserDTO;
+import ee.pw.ecowardrobebackend.dto.user.UserRegistrationDTO;
+import ee.pw.ecowardrobebackend.service.UserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:session-tokens")
+class SessionTokenFilterTests {
+    private static final String ORIGIN = "http://localhost:5173";
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    @Autowired
+    private SessionTokenFilter sessionTokenFilter;
+
+    @Autowired
+    private SessionTokenService sessionTokenService;
+
+    @Autowired
+    private UserService userService;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).addFilters(sessionTokenFilter).build();
+    }
+
+    @Test
+    void invalidTokenIsIgnoredOnOpenEndpoints() throws Exception {
+        final UUID userId = registerUser();
+
+        mockMvc.perform(get("/api/products/{id}", userId).header(HttpHeaders.AUTHORIZATION, "Bearer forged.token"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void invalidTokenIsRejectedOnOwnerOnlyEndpointsWithCorsHeaders() throws Exception {
+        final UUID userId = registerUser();
+
+        mockMvc.perform(get("/api/wardrobe-share/share/{id}", userId)
+                        .header(HttpHeaders.ORIGIN, ORIGIN)
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer forged.token"))
+                .andExpect(status().isUnauthorized())
+                .andExpect(header().string(HttpHeaders.ACCESS_CONTROL_ALLOW_ORIGIN, "*"));
+    }
+
+    @Test
+    void tokenOfAnotherUserIsForbidden() throws Exception {
+        final UUID userId = registerUser();
+        final String otherUsersToken = sessionTokenService.issue(registerUser(), false);
+
+        mockMvc.perform(get("/api/wardrobe-share/share/{id}", userId)
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + otherUsersToken))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/api/wardrobe-share/share/{id}", userId)
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + sessionTokenService.issue(userId, false)))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void influencerFlagIsTakenFromTheToken() throws Exception {
+        final UUID userId = registerUser();
+
+        final MockHttpServletRequest request = mockMvc.perform(get("/api/products/{id}", userId)
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + sessionTokenService.issue(userId, true)))
+                .andExpect(status().isOk())
+                .andReturn().getRequest();
+
+        // The stored user is not an influencer, so only the token can make this true.
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        try {
+            assertThat(userService.isInfluencer(userId)).isTrue();
+        } finally {
+            RequestContextHolder.resetRequestAttributes();
+        }
+        assertThat(userService.isInfluencer(userId)).isFalse();
+    }
+
+    private UUID registerUser() {
+        final UserDTO user = userService.registerUser(new UserRegistrationDTO(UUID.randomUUID() + "@test.pl", "Session Test", "secret")).join();
+        return user.id();
+    }
+}
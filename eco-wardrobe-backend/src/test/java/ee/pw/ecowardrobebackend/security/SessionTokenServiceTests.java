@@ -0,0 +1,67 @@
+package ee.pw.ecowardrobebackend.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SessionTokenServiceTests {
+    private static final String KEY = Base64.getEncoder().encodeToString(new byte[32]);
+    private static final Duration TIME_TO_LIVE = Duration.ofHours(1);
+    private static final Instant NOW = Instant.parse("2026-01-01T12:00:00Z");
+
+    private final SessionTokenService sessionTokenService = serviceAt(NOW);
+
+    @Test
+    void issuedTokenCarriesUserAndInfluencerFlag() {
+        final UUID userId = UUID.randomUUID();
+
+        assertThat(sessionTokenService.verify(sessionTokenService.issue(userId, true)))
+                .contains(new SessionToken(userId, true, NOW.plus(TIME_TO_LIVE)));
+        assertThat(sessionTokenService.verify(sessionTokenService.issue(userId, false)))
+                .hasValueSatisfying(session -> assertThat(session.influencer()).isFalse());
+    }
+
+    @Test
+    void tamperedTokenIsRejected() {
+        final String token = sessionTokenService.issue(UUID.randomUUID(), false);
+        final String[] parts = token.split("\\.");
+        final byte[] payload = Base64.getUrlDecoder().decode(parts[0]);
+        // Promote the session to an influencer without re-signing it.
+        payload[Long.BYTES * 2] = 1;
+        final String promoted = Base64.getUrlEncoder().withoutPadding().encodeToString(payload) + "." + parts[1];
+
+        assertThat(sessionTokenService.verify(promoted)).isEmpty();
+        assertThat(sessionTokenService.verify(parts[0] + "." + parts[0])).isEmpty();
+        assertThat(sessionTokenService.verify(parts[0])).isEmpty();
+        assertThat(sessionTokenService.verify("not a token")).isEmpty();
+    }
+
+    @Test
+    void expiredTokenIsRejected() {
+        final String token = sessionTokenService.issue(UUID.randomUUID(), false);
+
+        assertThat(serviceAt(NOW.plus(TIME_TO_LIVE).minusSeconds(1)).verify(token)).isPresent();
+        assertThat(serviceAt(NOW.plus(TIME_TO_LIVE)).verify(token)).isEmpty();
+    }
+
+    @Test
+    void keyShorterThan32BytesIsRejected() {
+        final String shortKey = Base64.getEncoder().encodeToString(new byte[31]);
+
+        assertThatThrownBy(() -> new SessionTokenService(shortKey, TIME_TO_LIVE, Clock.fixed(NOW, ZoneOffset.UTC)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("app.security.session.key");
+    }
+
+    private static SessionTokenService serviceAt(Instant now) {
+        return new SessionTokenService(KEY, TIME_TO_LIVE, Clock.fixed(now, ZoneOffset.UTC));
+    }
+}
@@ -0,0 +1,46 @@
+package ee.pw.ecowardrobebackend.service;
+
+import ee.pw.ecowardrobebackend.entity.product.MaterialComposition;
+import ee.pw.ecowardrobebackend.entity.product.Product;
+import ee.pw.ecowardrobebackend.entity.product.ProductInformation;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:passport-catalog")
+class PassportCatalogServiceTests {
+    @Autowired
+    private PassportCatalogService passportCatalogService;
+
+    @Test
+    void duplicateGtinInAChunkStillStoresTheRestOfTheChunk() {
+        // Stored between the chunk's catalog lookup and its insert, as a concurrent import would.
+        final UUID canonicalId = passportCatalogService.insert(product("5940000000002")).getId();
+
+        final List<Product> storedProducts = passportCatalogService.insertAll(
+                List.of("5940000000001", "5940000000002", "5940000000003"),
+                PassportCatalogServiceTests::product
+        );
+
+        assertThat(storedProducts).hasSize(3).allSatisfy(product -> assertThat(product.getId()).isNotNull());
+        assertThat(storedProducts.get(1).getId()).isEqualTo(canonicalId);
+        assertThat(passportCatalogService.findByGtin("5940000000001")).map(Product::getId).contains(storedProducts.get(0).getId());
+        assertThat(passportCatalogService.findByGtin("5940000000003")).map(Product::getId).contains(storedProducts.get(2).getId());
+    }
+
+    private static Product product(String gtin) {
+        return Product.builder()
+                .productInformation(new ProductInformation(gtin, "Produkt testowy", "Koszulki", "EkoUbrania", "Test"))
+                .materialCompositions(new ArrayList<>(List.of(MaterialComposition.builder()
+                        .materialName("Bawełna")
+                        .compositionPercentage(100)
+                        .build())))
+                .build();
+    }
+}
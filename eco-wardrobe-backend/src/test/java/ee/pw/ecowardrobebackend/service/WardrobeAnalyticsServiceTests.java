@@ -0,0 +1,127 @@
+package ee.pw.ecowardrobebackend.service;
+
+import ee.pw.ecowardrobebackend.dto.analytics.WardrobeAnalyticsDTO;
+import ee.pw.ecowardrobebackend.dto.product.CreateProductDTO;
+import ee.pw.ecowardrobebackend.dto.user.UserDTO;
+import ee.pw.ecowardrobebackend.dto.user.UserRegistrationDTO;
+import ee.pw.ecowardrobebackend.entity.product.MaterialComposition;
+import ee.pw.ecowardrobebackend.entity.product.ProductEnvironmentImpact;
+import ee.pw.ecowardrobebackend.entity.product.ProductInformation;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:wardrobe-analytics")
+class WardrobeAnalyticsServiceTests {
+    @Autowired
+    private WardrobeAnalyticsService wardrobeAnalyticsService;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private WardrobeAnalyticsRebuildJob wardrobeAnalyticsRebuildJob;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void createdProductsAreAddedToTheAggregateOnce() {
+        final UUID userId = newUser();
+        productService.createProduct(passport("5910000000001", "Koszulki", "Bawełna organiczna"), userId);
+        productService.createProduct(passport("5910000000002", "Spodnie", "Poliester z recyklingu"), userId);
+        productService.createProduct(passport("5910000000001", "Koszulki", "Bawełna organiczna"), userId);
+
+        final WardrobeAnalyticsDTO analytics = wardrobeAnalyticsService.getAnalytics(userId);
+
+        assertThat(analytics.itemCount()).isEqualTo(2);
+        assertThat(analytics.carbonFootprintKgCO2e()).isCloseTo(25.0, within(1e-9));
+        assertThat(analytics.waterUsageLiters()).isCloseTo(300.0, within(1e-9));
+        assertThat(analytics.energyKwh()).isCloseTo(90.0, within(1e-9));
+        assertThat(analytics.categories()).isEqualTo(Map.of("Koszulki", 1L, "Spodnie", 1L));
+        assertThat(analytics.materialShares())
+                .containsEntry("Bawełna organiczna", 50.0)
+                .containsEntry("Poliester z recyklingu", 50.0);
+        assertThat(wardrobeAnalyticsService.rebuild(userId)).isFalse();
+    }
+
+    @Test
+    void removedProductsAreSubtractedFromTheAggregate() {
+        final UUID userId = newUser();
+        final UUID removedProductId = productService.createProduct(passport("5910000000004", "Kurtki", "Wełna"), userId).getId();
+        productService.createProduct(passport("5910000000005", "Spodnie", "Len"), userId);
+
+        assertThat(productService.removeFromWardrobe(userId, removedProductId)).isTrue();
+        assertThat(productService.removeFromWardrobe(userId, removedProductId)).isFalse();
+
+        final WardrobeAnalyticsDTO analytics = wardrobeAnalyticsService.getAnalytics(userId);
+        assertThat(analytics.itemCount()).isEqualTo(1);
+        assertThat(analytics.categories()).isEqualTo(Map.of("Spodnie", 1L));
+        assertThat(analytics.materialShares()).containsOnlyKeys("Len");
+        assertThat(wardrobeAnalyticsService.rebuild(userId)).isFalse();
+    }
+
+    @Test
+    void rebuildRepairsADriftedAggregate() {
+        final UUID userId = newUser();
+        productService.createProduct(passport("5910000000003", "Bluzy", "Len"), userId);
+        jdbcTemplate.update("update wardrobe_analytics set item_count = 7 where user_id = ?", userId);
+
+        assertThat(wardrobeAnalyticsService.rebuild(userId)).isTrue();
+        assertThat(wardrobeAnalyticsService.getAnalytics(userId).itemCount()).isEqualTo(1);
+    }
+
+    @Test
+    void uncomputedAggregateIsBuiltByTheJobAndNeverByARead() {
+        final UUID userId = newUser();
+        productService.createProduct(passport("5910000000006", "Czapki", "Wełna"), userId);
+        jdbcTemplate.update("update wardrobe_analytics set item_count = 0, rebuilt_at = null where user_id = ?", userId);
+
+        assertThat(wardrobeAnalyticsService.getAnalytics(userId).itemCount()).isZero();
+        assertThat(jdbcTemplate.queryForObject("select rebuilt_at from wardrobe_analytics where user_id = ?", Object.class, userId)).isNull();
+
+        wardrobeAnalyticsRebuildJob.rebuildUncomputed();
+
+        assertThat(wardrobeAnalyticsService.getAnalytics(userId).itemCount()).isEqualTo(1);
+    }
+
+    @Test
+    void registeredUserStartsWithAComputedEmptyAggregate() {
+        final UUID userId = newUser();
+
+        assertThat(wardrobeAnalyticsService.getAnalytics(userId).itemCount()).isZero();
+        assertThat(jdbcTemplate.queryForObject("select rebuilt_at from wardrobe_analytics where user_id = ?", Object.class, userId)).isNotNull();
+        assertThatThrownBy(() -> wardrobeAnalyticsService.getAnalytics(UUID.randomUUID()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private UUID newUser() {
+        final UserDTO user = userService.registerUser(
+                new UserRegistrationDTO(UUID.randomUUID() + "@test.pl", "Analytics Test", "secret")
+        ).join();
+        return user.id();
+    }
+
+    private static CreateProductDTO passport(String gtin, String category, String material) {
+        return CreateProductDTO.builder()
+                .productInformation(new ProductInformation(gtin, "Produkt testowy", category, "EkoUbrania", "Test"))
+                .materialCompositions(List.of(MaterialComposition.builder()
+                        .materialName(material)
+                        .compositionPercentage(100)
+                        .build()))
+                .productEnvironmentImpact(new ProductEnvironmentImpact(12.5, 150.0, 45.0, 80.0, List.of()))
+                .build();
+    }
+}
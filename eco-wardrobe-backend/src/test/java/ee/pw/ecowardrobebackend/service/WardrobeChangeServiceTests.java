@@ -0,0 +1,78 @@
+package ee.pw.ecowardrobebackend.service;
+
+import ee.pw.ecowardrobebackend.dto.product.CreateProductDTO;
+import ee.pw.ecowardrobebackend.dto.product.WardrobeChangesDTO;
+import ee.pw.ecowardrobebackend.dto.user.UserDTO;
+import ee.pw.ecowardrobebackend.dto.user.UserRegistrationDTO;
+import ee.pw.ecowardrobebackend.entity.product.Product;
+import ee.pw.ecowardrobebackend.entity.product.ProductInformation;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:wardrobe-changes")
+class WardrobeChangeServiceTests {
+    @Autowired
+    private WardrobeChangeService wardrobeChangeService;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private UserService userService;
+
+    @Test
+    void syncReturnsOnlyChangesAfterTheWatermark() {
+        final UUID userId = newUser();
+        final UUID keptProductId = productService.createProduct(passport("5920000000001"), userId).getId();
+        final UUID removedProductId = productService.createProduct(passport("5920000000002"), userId).getId();
+
+        final WardrobeChangesDTO fullSync = wardrobeChangeService.getChanges(userId, null);
+        assertThat(fullSync.products()).extracting(Product::getId).containsExactlyInAnyOrder(keptProductId, removedProductId);
+        assertThat(fullSync.removedProductIds()).isEmpty();
+
+        final UUID addedProductId = productService.createProduct(passport("5920000000003"), userId).getId();
+        productService.removeFromWardrobe(userId, removedProductId);
+
+        final WardrobeChangesDTO delta = wardrobeChangeService.getChanges(userId, fullSync.watermark());
+        assertThat(delta.products()).extracting(Product::getId).containsExactly(addedProductId);
+        assertThat(delta.removedProductIds()).containsExactly(removedProductId);
+        assertThat(delta.watermark()).isGreaterThan(fullSync.watermark());
+
+        final WardrobeChangesDTO upToDate = wardrobeChangeService.getChanges(userId, delta.watermark());
+        assertThat(upToDate.products()).isEmpty();
+        assertThat(upToDate.removedProductIds()).isEmpty();
+        assertThat(upToDate.watermark()).isEqualTo(delta.watermark());
+    }
+
+    @Test
+    void productAddedAgainAfterRemovalIsSentAsAdded() {
+        final UUID userId = newUser();
+        final long watermark = wardrobeChangeService.getChanges(userId, null).watermark();
+        final UUID productId = productService.createProduct(passport("5920000000004"), userId).getId();
+        productService.removeFromWardrobe(userId, productId);
+        productService.createProduct(passport("5920000000004"), userId);
+
+        final WardrobeChangesDTO delta = wardrobeChangeService.getChanges(userId, watermark);
+
+        assertThat(delta.products()).extracting(Product::getId).containsExactly(productId);
+        assertThat(delta.removedProductIds()).isEmpty();
+    }
+
+    private UUID newUser() {
+        final UserDTO user = userService.registerUser(
+                new UserRegistrationDTO(UUID.randomUUID() + "@test.pl", "Sync Test", "secret")
+        ).join();
+        return user.id();
+    }
+
+    private static CreateProductDTO passport(String gtin) {
+        return CreateProductDTO.builder()
+                .productInformation(new ProductInformation(gtin, "Produkt testowy", "Koszulki", "EkoUbrania", "Test"))
+                .build();
+    }
+}
@@ -0,0 +1,54 @@
+package ee.pw.ecowardrobebackend.service;
+
+import ee.pw.ecowardrobebackend.dto.product.CreateProductDTO;
+import ee.pw.ecowardrobebackend.dto.product.WardrobeItemSummaryDTO;
+import ee.pw.ecowardrobebackend.dto.product.WardrobePageDTO;
+import ee.pw.ecowardrobebackend.dto.user.UserDTO;
+import ee.pw.ecowardrobebackend.dto.user.UserRegistrationDTO;
+import ee.pw.ecowardrobebackend.entity.product.ProductInformation;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:wardrobe-pages")
+class WardrobePageTests {
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private UserService userService;
+
+    @Test
+    void sharedPassportIsOrderedByWhenItWasAddedToTheWardrobe() {
+        final UUID firstOwner = newUser();
+        final UUID secondOwner = newUser();
+        // The shared passport is stored first, by another wardrobe.
+        final UUID sharedProductId = productService.createProduct(passport("5940000000001"), firstOwner).getId();
+        final UUID newProductId = productService.createProduct(passport("5940000000002"), secondOwner).getId();
+        productService.createProduct(passport("5940000000001"), secondOwner);
+
+        final WardrobePageDTO firstPage = productService.getUserWardrobePage(secondOwner, null, 1);
+        assertThat(firstPage.items()).extracting(WardrobeItemSummaryDTO::id).containsExactly(sharedProductId);
+
+        final WardrobePageDTO secondPage = productService.getUserWardrobePage(secondOwner, firstPage.nextCursor(), 1);
+        assertThat(secondPage.items()).extracting(WardrobeItemSummaryDTO::id).containsExactly(newProductId);
+        assertThat(secondPage.nextCursor()).isNull();
+    }
+
+    private UUID newUser() {
+        final UserDTO user = userService.registerUser(
+                new UserRegistrationDTO(UUID.randomUUID() + "@test.pl", "Page Test", "secret")
+        ).join();
+        return user.id();
+    }
+
+    private static CreateProductDTO passport(String gtin) {
+        return CreateProductDTO.builder()
+                .productInformation(new ProductInformation(gtin, "Produkt testowy", "Koszulki", "EkoUbrania", "Test"))
+                .build();
+    }
+}
@@ -2,6 +2,7 @@ import { useMutation } from '@tanstack/react-query';
 import { User, LoginCredentials, RegisterData } from '@/types/user';
 import { BackendUserDTO } from './backendTypes';
 import { convertBackendUserToUser } from './userMapper';
+import { storeSessionToken } from './session';
 
 const API_BASE_URL = 'http://localhost:8080/api';
 
@@ -24,6 +25,7 @@ async function loginUser(credentials: LoginCredentials): Promise<User> {
     throw new Error('Błąd logowania');
   }
 
+  storeSessionToken(response);
   const data: BackendUserDTO = await response.json();
   return convertBackendUserToUser(data);
 }
@@ -45,6 +47,7 @@ async function registerUser(data: RegisterData): Promise<User> {
     throw new Error('Błąd rejestracji');
   }
 
+  storeSessionToken(response);
   const userData: BackendUserDTO = await response.json();
   return convertBackendUserToUser(userData);
 }
@@ -62,9 +62,14 @@ export interface BackendProduct {
     passportLastUpdated: string;
     dataOwner: string;
   };
-  image: string | number[] | null; // Backend może zwrócić base64 string lub byte array
+  imageHash: string | null; // Adres obrazu w magazynie /api/images/{hash}
+  ecoScore: number | null; // Eco Score wyliczony przez backend przy zapisie produktu
 }
 
+export type BackendCreateProduct = Omit<BackendProduct, 'id' | 'imageHash' | 'ecoScore'> & {
+  image: number[] | null;
+};
+
 export interface BackendWardrobeItemsDTO {
   products: BackendProduct[];
 }
@@ -78,7 +83,7 @@ export interface BackendUserDTO {
   id: string;
   email: string;
   name: string;
-  profilePicture?: number[] | null;
+  profilePictureHash?: string | null;
   isInfluencer?: boolean;
   preference?: BackendPreference | null;
 }
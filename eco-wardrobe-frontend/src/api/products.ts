@@ -1,19 +1,40 @@
 import { useQuery } from '@tanstack/react-query';
-import { Product } from '@/types/product';
+import { Product, getEcoRating } from '@/types/product';
 import { convertDPPtoProduct, convertBackendProductToDPP, DigitalProductPassport } from '@/types/digitalProductPassport';
-import { BackendWardrobeItemsDTO, BackendProduct } from './backendTypes';
-import { convertBackendImageToBase64, base64ToByteArray } from '@/lib/utils';
+import { BackendWardrobeItemsDTO, BackendProduct, BackendCreateProduct } from './backendTypes';
+import { base64ToByteArray } from '@/lib/utils';
+import { clearSessionTokenOnUnauthorized, sessionHeaders } from './session';
 
 const API_BASE_URL = 'http://localhost:8080/api';
 
+// Wardrobe cards are ~200px wide, so 400px thumbnails stay sharp on high-density screens.
+export const PRODUCT_IMAGE_SIZE = 400;
+export const AVATAR_IMAGE_SIZE = 128;
+
+export function getBackendImageUrl(imageHash: string | null | undefined, size?: number): string {
+  if (!imageHash) {
+    return '';
+  }
+  return size ? `${API_BASE_URL}/images/${imageHash}?size=${size}` : `${API_BASE_URL}/images/${imageHash}`;
+}
+
+export function applyBackendEcoScore(product: Product, backendProduct: BackendProduct): void {
+  if (backendProduct.ecoScore !== null && backendProduct.ecoScore !== undefined) {
+    product.ecoScore = backendProduct.ecoScore;
+    product.ecoRating = getEcoRating(backendProduct.ecoScore);
+  }
+}
+
 async function fetchUserProducts(userId: string): Promise<Product[]> {
   const response = await fetch(`${API_BASE_URL}/products/${userId}`, {
     method: 'GET',
     headers: {
       'Content-Type': 'application/json',
+      ...sessionHeaders(),
     },
   });
 
+  clearSessionTokenOnUnauthorized(response);
   if (!response.ok) {
     throw new Error('Błąd pobierania produktów');
   }
@@ -30,8 +51,8 @@ async function fetchUserProducts(userId: string): Promise<Product[]> {
 
     const product = converted.product;
 
-    // Convert image to base64 string
-    product.image = convertBackendImageToBase64(backendProduct.image) || undefined;
+    product.imageUrl = getBackendImageUrl(backendProduct.imageHash, PRODUCT_IMAGE_SIZE);
+    applyBackendEcoScore(product, backendProduct);
 
     return product;
   });
@@ -68,7 +89,7 @@ export function useProductsQuery(userId: string | null) {
   return query;
 }
 
-function convertDPPtoBackendProduct(dpp: DigitalProductPassport, imageBase64?: string): Omit<BackendProduct, 'id'> {
+function convertDPPtoBackendProduct(dpp: DigitalProductPassport, imageBase64?: string): BackendCreateProduct {
   // Convert base64 image to number array if present
   let imageArray: number[] | null = null;
   if (imageBase64) {
@@ -158,10 +179,12 @@ export async function addProductToWardrobe(
     method: 'POST',
     headers: {
       'Content-Type': 'application/json',
+      ...sessionHeaders(),
     },
     body: JSON.stringify(backendProduct),
   });
 
+  clearSessionTokenOnUnauthorized(response);
   if (!response.ok) {
     throw new Error('Błąd dodawania produktu do szafy');
   }
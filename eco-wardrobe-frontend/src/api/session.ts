@@ -0,0 +1,22 @@
+const SESSION_TOKEN_HEADER = 'X-Session-Token';
+
+let sessionToken: string | null = null;
+
+export function storeSessionToken(response: Response) {
+  sessionToken = response.headers.get(SESSION_TOKEN_HEADER);
+}
+
+export function clearSessionToken() {
+  sessionToken = null;
+}
+
+// A 401 means the token expired or the server's key changed; later requests go out anonymously.
+export function clearSessionTokenOnUnauthorized(response: Response) {
+  if (response.status === 401) {
+    clearSessionToken();
+  }
+}
+
+export function sessionHeaders(): Record<string, string> {
+  return sessionToken ? { Authorization: `Bearer ${sessionToken}` } : {};
+}
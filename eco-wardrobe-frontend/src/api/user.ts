@@ -4,6 +4,7 @@ import { User } from '@/types/user';
 import { BackendUserDTO } from './backendTypes';
 import { convertBackendUserToUser } from './userMapper';
 import { base64ToByteArray } from '@/lib/utils';
+import { clearSessionTokenOnUnauthorized, sessionHeaders } from './session';
 
 const API_BASE_URL = 'http://localhost:8080/api';
 
@@ -27,10 +28,12 @@ async function modifyUserPreferences(
     method: 'POST',
     headers: {
       'Content-Type': 'application/json',
+      ...sessionHeaders(),
     },
     body: JSON.stringify(preferences),
   });
 
+  clearSessionTokenOnUnauthorized(response);
   if (!response.ok) {
     throw new Error('Błąd aktualizacji preferencji');
   }
@@ -61,12 +64,14 @@ async function uploadUserPhoto(userId: string, imageBase64: string): Promise<Use
     method: 'POST',
     headers: {
       'Content-Type': 'application/json',
+      ...sessionHeaders(),
     },
     body: JSON.stringify({
       profilePicture: imageArray,
     }),
   });
 
+  clearSessionTokenOnUnauthorized(response);
   if (!response.ok) {
     throw new Error('Błąd wgrywania zdjęcia profilowego');
   }
@@ -1,9 +1,9 @@
 import { User } from '@/types/user';
 import { BackendUserDTO } from './backendTypes';
-import { convertBackendImageToBase64 } from '@/lib/utils';
+import { AVATAR_IMAGE_SIZE, getBackendImageUrl } from './products';
 
 export function convertBackendUserToUser(backendUser: BackendUserDTO): User {
-  const profilePictureBase64 = convertBackendImageToBase64(backendUser.profilePicture);
+  const profilePictureUrl = getBackendImageUrl(backendUser.profilePictureHash, AVATAR_IMAGE_SIZE) || null;
 
   const preferences = backendUser.preference ? {
     allergies: backendUser.preference.allergies?.map(a => a.name) || [],
@@ -14,7 +14,7 @@ export function convertBackendUserToUser(backendUser: BackendUserDTO): User {
     id: backendUser.id,
     email: backendUser.email,
     name: backendUser.name,
-    profilePicture: profilePictureBase64,
+    profilePicture: profilePictureUrl,
     isInfluencer: backendUser.isInfluencer || false,
     preferences,
   };
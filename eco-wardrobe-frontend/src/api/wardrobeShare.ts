@@ -10,8 +10,9 @@ import {
   BackendAddWardrobeShareRequestDTO,
   BackendSavedWardrobeItemDTO,
 } from './backendTypes';
-import { convertBackendImageToBase64 } from '@/lib/utils';
+import { applyBackendEcoScore, getBackendImageUrl, PRODUCT_IMAGE_SIZE } from './products';
 import { convertBackendUserToUser } from './userMapper';
+import { clearSessionTokenOnUnauthorized, sessionHeaders } from './session';
 
 const API_BASE_URL = 'http://localhost:8080/api';
 
@@ -25,9 +26,11 @@ async function fetchSavedWardrobes(userId: string): Promise<SavedWardrobeItem[]>
     method: 'GET',
     headers: {
       'Content-Type': 'application/json',
+      ...sessionHeaders(),
     },
   });
 
+  clearSessionTokenOnUnauthorized(response);
   if (!response.ok) {
     throw new Error('Błąd pobierania zapisanych szaf');
   }
@@ -44,7 +47,8 @@ async function fetchSavedWardrobes(userId: string): Promise<SavedWardrobeItem[]>
       const converted = convertDPPtoProduct(dpp);
       const product = converted.product;
 
-      product.image = convertBackendImageToBase64(backendProduct.image) || undefined;
+      product.imageUrl = getBackendImageUrl(backendProduct.imageHash, PRODUCT_IMAGE_SIZE);
+      applyBackendEcoScore(product, backendProduct);
 
       return product;
     });
@@ -63,9 +67,11 @@ async function fetchShareCode(userId: string): Promise<string> {
     method: 'GET',
     headers: {
       'Content-Type': 'application/json',
+      ...sessionHeaders(),
     },
   });
 
+  clearSessionTokenOnUnauthorized(response);
   if (!response.ok) {
     throw new Error('Błąd generowania kodu udostępnienia');
   }
@@ -87,9 +93,11 @@ async function fetchInfluencerWardrobes(): Promise<SavedWardrobeItem[]> {
     method: 'GET',
     headers: {
       'Content-Type': 'application/json',
+      ...sessionHeaders(),
     },
   });
 
+  clearSessionTokenOnUnauthorized(response);
   if (!response.ok) {
     throw new Error('Błąd pobierania szaf influencerów');
   }
@@ -106,7 +114,8 @@ async function fetchInfluencerWardrobes(): Promise<SavedWardrobeItem[]> {
       const converted = convertDPPtoProduct(dpp);
       const product = converted.product;
 
-      product.image = convertBackendImageToBase64(backendProduct.image) || undefined;
+      product.imageUrl = getBackendImageUrl(backendProduct.imageHash, PRODUCT_IMAGE_SIZE);
+      applyBackendEcoScore(product, backendProduct);
 
       return product;
     });
@@ -125,6 +134,7 @@ async function addWardrobe(userId: string, shareCode: string): Promise<void> {
     method: 'POST',
     headers: {
       'Content-Type': 'application/json',
+      ...sessionHeaders(),
     },
     body: JSON.stringify({
       shareCode,
@@ -135,6 +145,7 @@ async function addWardrobe(userId: string, shareCode: string): Promise<void> {
     throw new Error('Szafa nie została znaleziona');
   }
 
+  clearSessionTokenOnUnauthorized(response);
   if (!response.ok) {
     throw new Error('Błąd dodawania szafy');
   }
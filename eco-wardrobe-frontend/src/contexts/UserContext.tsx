@@ -1,5 +1,6 @@
 import { createContext, useContext, useState, ReactNode } from 'react';
 import { User } from '@/types/user';
+import { clearSessionToken } from '@/api/session';
 
 interface UserContextType {
   user: User | null;
@@ -14,6 +15,7 @@ export function UserProvider({ children }: { children: ReactNode }) {
   const [user, setUser] = useState<User | null>(null);
 
   const clearUser = () => {
+    clearSessionToken();
     setUser(null);
   };
 
@@ -130,6 +130,9 @@ export function getProductImageUrl(product: { image?: string; imageUrl?: string
 }
 
 export function getUserAvatarUrl(user: { profilePicture?: string | null }): string | undefined {
+  if (user.profilePicture && /^(https?:|\/)/.test(user.profilePicture)) {
+    return user.profilePicture;
+  }
   if (user.profilePicture) {
     try {
       return base64ToDataUrl(user.profilePicture);
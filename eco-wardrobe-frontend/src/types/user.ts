@@ -7,7 +7,7 @@ export interface User {
   id: string;
   email: string;
   name: string;
-  profilePicture?: string | null; // base64 data URL
+  profilePicture?: string | null; // image URL served by the backend
   isInfluencer?: boolean;
   preferences?: UserPreferences;
 }